@@ -0,0 +1,78 @@
+package navik.ai.batch;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import navik.io.batch.MicroBatcher;
+import navik.io.enums.Downstream;
+import navik.io.executor.BlockingIoExecutor;
+
+/**
+ * 여러 스레드에서 동시에 들어온 임베딩 요청을 모아 한 번의 요청으로 보내는 마이크로 배처입니다.
+ * 배치 수집, 동시 전송 제한, 요청별 완료는 MicroBatcher가 담당하며, 여기서는 임베딩 요청과 응답 검증을 담당합니다.
+ */
+@Component
+public class EmbeddingBatcher implements DisposableBean {
+
+	private final EmbeddingModel embeddingModel;
+	private final BlockingIoExecutor blockingIoExecutor;
+	private final Duration timeout;
+	private final MicroBatcher<String, float[]> batcher;
+
+	public EmbeddingBatcher(
+		EmbeddingModel embeddingModel,
+		BlockingIoExecutor blockingIoExecutor,
+		@Value("${embedding.batch.max-size}") int maxBatchSize,
+		@Value("${embedding.batch.max-wait-ms}") long maxWaitMillis,
+		@Value("${embedding.batch.max-in-flight}") int maxInFlight,
+		@Value("${embedding.batch.timeout-ms}") long timeoutMillis
+	) {
+		this.embeddingModel = embeddingModel;
+		this.blockingIoExecutor = blockingIoExecutor;
+		this.timeout = Duration.ofMillis(timeoutMillis);
+		this.batcher = new MicroBatcher<>("embedding-batcher", maxBatchSize, Duration.ofMillis(maxWaitMillis),
+			maxInFlight, this::send);
+	}
+
+	/**
+	 * 텍스트를 다음 배치에 추가하고, 해당 텍스트의 벡터로 완료되는 future를 반환합니다.
+	 * 제한 시간 안에 완료되지 않으면 TimeoutException으로 완료됩니다.
+	 */
+	public CompletableFuture<float[]> enqueue(String text) {
+		return batcher.enqueue(text).orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 지금까지 전송한 배치의 평균 채움률(배치 크기 / 최대 배치 크기)입니다.
+	 */
+	public double getFillRatio() {
+		return batcher.getFillRatio();
+	}
+
+	/**
+	 * 텍스트 목록을 한 번의 요청으로 임베딩합니다.
+	 * 응답 개수가 요청과 다르면 순서를 신뢰할 수 없으므로 배치 전체를 실패로 완료합니다.
+	 */
+	private CompletableFuture<List<float[]>> send(List<String> texts) {
+		return blockingIoExecutor.submit(Downstream.OPENAI, () -> {
+			List<float[]> embeddings = embeddingModel.embed(texts);
+			if (embeddings == null || embeddings.size() != texts.size()) {
+				throw new IllegalStateException("임베딩 응답 개수가 요청과 다릅니다: 요청 " + texts.size() + "건, 응답 "
+					+ (embeddings == null ? 0 : embeddings.size()) + "건");
+			}
+			return embeddings;
+		});
+	}
+
+	@Override
+	public void destroy() {
+		batcher.shutdown(false);
+	}
+}
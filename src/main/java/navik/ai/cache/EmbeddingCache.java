@@ -0,0 +1,92 @@
+package navik.ai.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import navik.ai.util.VectorCodec;
+import navik.cache.ContentHash;
+import navik.cache.LocalLruCache;
+
+/**
+ * 텍스트 임베딩 캐시입니다.
+ * 로컬 LRU 캐시 -> Redis 순서로 조회하며, Redis에는 float32 바이너리로 저장합니다.
+ * Key: embedding:{모델}:{차원}:{정규화된 텍스트 해시}
+ * 모델이나 차원이 바뀌면 키가 달라지므로 이전 벡터는 사용되지 않습니다.
+ */
+@Slf4j
+@Component
+public class EmbeddingCache {
+
+	private static final String KEY_PREFIX = "embedding:";
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+	private final LocalLruCache<String, float[]> localCache;
+	private final Duration ttl;
+
+	private final AtomicLong localHitCount = new AtomicLong();
+	private final AtomicLong redisHitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+
+	public EmbeddingCache(
+		RedisTemplate<String, byte[]> binaryRedisTemplate,
+		@Value("${cache.embedding.local-size}") int localSize,
+		@Value("${cache.embedding.ttl-days}") long ttlDays
+	) {
+		this.binaryRedisTemplate = binaryRedisTemplate;
+		this.ttl = Duration.ofDays(ttlDays);
+		this.localCache = new LocalLruCache<>(localSize, ttl);
+	}
+
+	/**
+	 * 모델, 차원, 정규화된 텍스트로 캐시 키를 생성합니다.
+	 */
+	public String keyOf(String model, int dimensions, String text) {
+		String normalized = WHITESPACE.matcher(text).replaceAll(" ").strip();
+		return KEY_PREFIX + model + ":" + dimensions + ":" + ContentHash.sha256Hex(normalized);
+	}
+
+	public Optional<float[]> get(String key) {
+
+		// 1. 로컬 캐시 조회
+		float[] cached = localCache.get(key);
+		if (cached != null) {
+			localHitCount.incrementAndGet();
+			return Optional.of(cached);
+		}
+
+		// 2. Redis 조회
+		try {
+			byte[] stored = binaryRedisTemplate.opsForValue().get(key);
+			if (stored != null) {
+				float[] vector = VectorCodec.decode(stored);
+				localCache.put(key, vector);
+				redisHitCount.incrementAndGet();
+				return Optional.of(vector);
+			}
+		} catch (Exception exception) {
+			log.warn("[EmbeddingCache] 캐시 조회 실패: {}", exception.getMessage());
+		}
+
+		missCount.incrementAndGet();
+		return Optional.empty();
+	}
+
+	public void put(String key, float[] vector) {
+		localCache.put(key, vector);
+		try {
+			binaryRedisTemplate.opsForValue().set(key, VectorCodec.encode(vector), ttl);
+		} catch (Exception exception) {
+			log.warn("[EmbeddingCache] 캐시 저장 실패: {}", exception.getMessage());
+		}
+		log.debug("[EmbeddingCache] 로컬 {}건, Redis {}건, 미적중 {}건",
+			localHitCount.get(), redisHitCount.get(), missCount.get());
+	}
+}
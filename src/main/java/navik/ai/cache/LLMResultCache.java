@@ -0,0 +1,109 @@
+package navik.ai.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+import navik.ai.dto.LLMResponseDTO;
+import navik.cache.ContentHash;
+import navik.cache.LocalLruCache;
+
+/**
+ * LLM 채용 공고 추출 결과 캐시입니다.
+ * 로컬 LRU 캐시 -> Redis 순서로 조회하며, Redis에 저장된 결과는 다른 인스턴스와 공유됩니다.
+ * Key: llm:recruitment:{프롬프트 버전 해시}:{입력 해시}
+ */
+@Slf4j
+@Component
+public class LLMResultCache {
+
+	private static final String KEY_PREFIX = "llm:recruitment:";
+
+	// 매 호출마다 달라지는 크롤링 시각과 남은 기간은 입력 해시에서 제외
+	private static final Pattern CURRENT_TIME = Pattern.compile("<현재 시간>.*?</현재 시간>");
+	private static final Pattern COUNTDOWN = Pattern.compile("남은기간 [^,]*,");
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final LocalLruCache<String, LLMResponseDTO.Recruitment> localCache;
+	private final Duration ttl;
+	private final String model;
+
+	private final AtomicLong localHitCount = new AtomicLong();
+	private final AtomicLong redisHitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+
+	public LLMResultCache(
+		StringRedisTemplate redisTemplate,
+		ObjectMapper objectMapper,
+		@Value("${cache.llm.local-size}") int localSize,
+		@Value("${cache.llm.ttl-hours}") long ttlHours,
+		@Value("${spring.ai.openai.chat.options.model}") String model
+	) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.ttl = Duration.ofHours(ttlHours);
+		this.localCache = new LocalLruCache<>(localSize, ttl);
+		this.model = model;
+	}
+
+	/**
+	 * 프롬프트 버전(시스템 프롬프트, 모델, 옵션)과 입력으로 캐시 키를 생성합니다.
+	 * 프롬프트나 모델이 바뀌면 키가 달라지므로 이전 결과는 사용되지 않습니다.
+	 */
+	public String keyOf(String systemPrompt, String options, String input) {
+		String promptVersion = ContentHash.sha256Hex(model + "\n" + options + "\n" + systemPrompt);
+		String normalizedInput = COUNTDOWN.matcher(CURRENT_TIME.matcher(input).replaceAll("")).replaceAll("");
+		return KEY_PREFIX + promptVersion.substring(0, 16) + ":" + ContentHash.sha256Hex(normalizedInput);
+	}
+
+	public Optional<LLMResponseDTO.Recruitment> get(String key) {
+
+		// 1. 로컬 캐시 조회
+		LLMResponseDTO.Recruitment cached = localCache.get(key);
+		if (cached != null) {
+			localHitCount.incrementAndGet();
+			logStats("로컬 캐시 적중");
+			return Optional.of(cached);
+		}
+
+		// 2. Redis 조회
+		try {
+			String json = redisTemplate.opsForValue().get(key);
+			if (json != null) {
+				LLMResponseDTO.Recruitment stored = objectMapper.readValue(json, LLMResponseDTO.Recruitment.class);
+				localCache.put(key, stored);
+				redisHitCount.incrementAndGet();
+				logStats("Redis 캐시 적중");
+				return Optional.of(stored);
+			}
+		} catch (Exception exception) {
+			log.warn("[LLMResultCache] 캐시 조회 실패: {}", exception.getMessage());
+		}
+
+		missCount.incrementAndGet();
+		return Optional.empty();
+	}
+
+	public void put(String key, LLMResponseDTO.Recruitment result) {
+		localCache.put(key, result);
+		try {
+			redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(result), ttl);
+		} catch (Exception exception) {
+			log.warn("[LLMResultCache] 캐시 저장 실패: {}", exception.getMessage());
+		}
+	}
+
+	private void logStats(String message) {
+		log.info("[LLMResultCache] {} - 로컬 {}건, Redis {}건, 미적중 {}건", message,
+			localHitCount.get(), redisHitCount.get(), missCount.get());
+	}
+}
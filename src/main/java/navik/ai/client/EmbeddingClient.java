@@ -1,17 +1,88 @@
 package navik.ai.client;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
 import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
+import navik.ai.batch.EmbeddingBatcher;
+import navik.ai.cache.EmbeddingCache;
 
 @Service
 @RequiredArgsConstructor
 public class EmbeddingClient {
 
 	private final EmbeddingModel embeddingModel;
+	private final EmbeddingCache embeddingCache;
+	private final EmbeddingBatcher embeddingBatcher;
+
+	@Value("${spring.ai.openai.embedding.options.model}")
+	private String model;
 
+	/**
+	 * 텍스트를 임베딩합니다.
+	 * 같은 모델로 임베딩한 적 있는 텍스트는 캐시된 벡터를 반환합니다.
+	 */
 	public float[] embed(String text) {
-		return embeddingModel.embed(text);
+		return embedAll(List.of(text)).get(0);
+	}
+
+	/**
+	 * 여러 텍스트를 임베딩하고, 입력 순서대로 벡터를 반환합니다.
+	 * 캐시에 없는 텍스트만 중복을 제거하여 배처에 추가하며, 다른 스레드의 요청과 합쳐서 전송됩니다.
+	 */
+	public List<float[]> embedAll(List<String> texts) {
+		int dimensions = embeddingModel.dimensions();
+
+		// 1. 캐시 조회 후, 캐시에 없는 텍스트만 배처에 추가
+		float[][] embeddings = new float[texts.size()][];
+		Map<String, List<Integer>> missedIndexes = new LinkedHashMap<>();    // 캐시 키 -> 입력 위치
+		Map<String, CompletableFuture<float[]>> pending = new LinkedHashMap<>();    // 캐시 키 -> 요청
+		for (int i = 0; i < texts.size(); i++) {
+			String text = texts.get(i);
+			String cacheKey = embeddingCache.keyOf(model, dimensions, text);
+			Optional<float[]> cached = embeddingCache.get(cacheKey);
+			if (cached.isPresent()) {
+				embeddings[i] = cached.get();
+				continue;
+			}
+			missedIndexes.computeIfAbsent(cacheKey, key -> new ArrayList<>()).add(i);
+			pending.computeIfAbsent(cacheKey, key -> embeddingBatcher.enqueue(text));
+		}
+
+		// 2. 응답 벡터를 입력 위치에 매핑
+		pending.forEach((cacheKey, future) -> {
+			float[] embedding = await(future);
+			embeddingCache.put(cacheKey, embedding);
+			missedIndexes.get(cacheKey).forEach(index -> embeddings[index] = embedding);
+		});
+
+		return List.of(embeddings);
+	}
+
+	/**
+	 * 배처가 제한 시간(embedding.batch.timeout-ms)을 적용한 future를 기다립니다.
+	 */
+	private float[] await(CompletableFuture<float[]> future) {
+		try {
+			return future.join();
+		} catch (CompletionException exception) {
+			if (exception.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (exception.getCause() instanceof TimeoutException) {
+				throw new IllegalStateException("임베딩 응답 대기 시간을 초과하였습니다.", exception.getCause());
+			}
+			throw exception;
+		}
 	}
 }
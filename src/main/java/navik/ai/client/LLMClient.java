@@ -1,5 +1,7 @@
 package navik.ai.client;
 
+import java.util.Optional;
+
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.messages.SystemMessage;
 import org.springframework.ai.chat.messages.UserMessage;
@@ -7,8 +9,11 @@ import org.springframework.ai.chat.prompt.ChatOptions;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
+import navik.ai.cache.LLMResultCache;
 import navik.ai.dto.LLMResponseDTO;
 import navik.ai.util.PromptLoader;
+import navik.io.enums.Downstream;
+import navik.io.executor.BlockingIoExecutor;
 
 @Service
 @RequiredArgsConstructor
@@ -16,13 +21,26 @@ public class LLMClient {
 
 	private final ChatClient chatClient;
 	private final PromptLoader promptLoader;
+	private final BlockingIoExecutor blockingIoExecutor;
+	private final LLMResultCache llmResultCache;
 
 	private static final String RECRUITMENT_SYSTEM_PROMPT_PATH = "classpath:prompts/recruitment/system-prompt.txt";
+	private static final double RECRUITMENT_TEMPERATURE = 0.0;
 
+	/**
+	 * 채용 공고를 구조화합니다.
+	 * 같은 프롬프트와 입력으로 추출한 결과가 캐시에 있으면 LLM을 호출하지 않습니다.
+	 */
 	public LLMResponseDTO.Recruitment getRecruitment(String text) {
 
 		String systemPromptText = promptLoader.loadPrompt(RECRUITMENT_SYSTEM_PROMPT_PATH);
 
+		String cacheKey = llmResultCache.keyOf(systemPromptText, "temperature=" + RECRUITMENT_TEMPERATURE, text);
+		Optional<LLMResponseDTO.Recruitment> cached = llmResultCache.get(cacheKey);
+		if (cached.isPresent()) {
+			return cached.get();
+		}
+
 		SystemMessage systemMessage = SystemMessage.builder()
 			.text(systemPromptText)
 			.build();
@@ -31,13 +49,17 @@ public class LLMClient {
 			.text(text)
 			.build();
 
-		return chatClient.prompt()
+		LLMResponseDTO.Recruitment result = blockingIoExecutor.call(Downstream.OPENAI, () -> chatClient.prompt()
 			.messages(systemMessage, userMessage)
 			.options(ChatOptions.builder()
-				.temperature(0.0)
+				.temperature(RECRUITMENT_TEMPERATURE)
 				.build()
 			)
 			.call()
-			.entity(LLMResponseDTO.Recruitment.class);
+			.entity(LLMResponseDTO.Recruitment.class));
+		if (result != null) {
+			llmResultCache.put(cacheKey, result);
+		}
+		return result;
 	}
 }
@@ -0,0 +1,121 @@
+package navik.ai.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 임베딩 벡터를 바이너리로 변환합니다.
+ *
+ * encode/decode: 헤더 없이 float32 리틀 엔디언으로 차원 당 4바이트를 사용합니다. (임베딩 캐시)
+ *
+ * pack/unpack: 컨슈머가 별도 정보 없이 복원할 수 있도록 헤더를 포함합니다. (스트림 발행)
+ * 	 [0]     포맷 버전 (1)
+ * 	 [1]     자료형 (0: float32, 1: float16, 2: int8)
+ * 	 [2..5]  차원 수 (int32, 리틀 엔디언)
+ * 	 [6..9]  스케일 (float32, 리틀 엔디언), 원래 값 = 저장된 값 * 스케일
+ * 	 [10..]  벡터 값 (리틀 엔디언)
+ */
+public final class VectorCodec {
+
+	public static final byte FORMAT_VERSION = 1;
+	private static final int HEADER_SIZE = 10;
+
+	private VectorCodec() {
+	}
+
+	public static byte[] encode(float[] vector) {
+		ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.asFloatBuffer().put(vector);
+		return buffer.array();
+	}
+
+	public static float[] decode(byte[] bytes) {
+		if (bytes.length % Float.BYTES != 0) {
+			throw new IllegalArgumentException("올바르지 않은 벡터 길이입니다: " + bytes.length);
+		}
+		float[] vector = new float[bytes.length / Float.BYTES];
+		ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+		return vector;
+	}
+
+	/**
+	 * 헤더를 포함하여 지정한 자료형으로 벡터를 변환합니다.
+	 * int8은 절댓값의 최댓값이 127이 되도록 스케일을 계산합니다.
+	 */
+	public static byte[] pack(float[] vector, Dtype dtype) {
+		float scale = dtype == Dtype.INT8 ? int8Scale(vector) : 1.0f;
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + vector.length * dtype.bytes)
+			.order(ByteOrder.LITTLE_ENDIAN)
+			.put(FORMAT_VERSION)
+			.put(dtype.code)
+			.putInt(vector.length)
+			.putFloat(scale);
+
+		for (float value : vector) {
+			switch (dtype) {
+				case FLOAT32 -> buffer.putFloat(value);
+				case FLOAT16 -> buffer.putShort(Float.floatToFloat16(value));
+				case INT8 -> buffer.put((byte)Math.max(-127, Math.min(127, Math.round(value / scale))));
+			}
+		}
+		return buffer.array();
+	}
+
+	/**
+	 * 헤더를 읽어 벡터를 복원합니다.
+	 */
+	public static float[] unpack(byte[] bytes) {
+		ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+		byte version = buffer.get();
+		if (version != FORMAT_VERSION) {
+			throw new IllegalArgumentException("지원하지 않는 벡터 포맷 버전입니다: " + version);
+		}
+		Dtype dtype = Dtype.of(buffer.get());
+		int dimensions = buffer.getInt();
+		float scale = buffer.getFloat();
+		if (buffer.remaining() != dimensions * dtype.bytes) {
+			throw new IllegalArgumentException("올바르지 않은 벡터 길이입니다: " + bytes.length);
+		}
+
+		float[] vector = new float[dimensions];
+		for (int i = 0; i < dimensions; i++) {
+			vector[i] = switch (dtype) {
+				case FLOAT32 -> buffer.getFloat();
+				case FLOAT16 -> Float.float16ToFloat(buffer.getShort());
+				case INT8 -> buffer.get() * scale;
+			};
+		}
+		return vector;
+	}
+
+	private static float int8Scale(float[] vector) {
+		float maxAbs = 0;
+		for (float value : vector) {
+			maxAbs = Math.max(maxAbs, Math.abs(value));
+		}
+		return maxAbs == 0 ? 1.0f : maxAbs / 127;
+	}
+
+	public enum Dtype {
+		FLOAT32((byte)0, 4),
+		FLOAT16((byte)1, 2),
+		INT8((byte)2, 1);
+
+		private final byte code;
+		private final int bytes;
+
+		Dtype(byte code, int bytes) {
+			this.code = code;
+			this.bytes = bytes;
+		}
+
+		public static Dtype of(byte code) {
+			for (Dtype dtype : values()) {
+				if (dtype.code == code) {
+					return dtype;
+				}
+			}
+			throw new IllegalArgumentException("지원하지 않는 벡터 자료형입니다: " + code);
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package navik.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 캐시 키로 사용할 SHA-256 해시를 생성합니다.
+ */
+public final class ContentHash {
+
+	private ContentHash() {
+	}
+
+	public static String sha256Hex(String content) {
+		return sha256Hex(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static String sha256Hex(byte[] content) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(content));
+		} catch (NoSuchAlgorithmException exception) {
+			throw new IllegalStateException("SHA-256을 지원하지 않는 환경입니다.", exception);
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package navik.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 프로세스 내부에서 사용하는 LRU 캐시입니다.
+ * 최대 개수를 넘으면 가장 오래 사용되지 않은 항목부터 제거하며, ttl이 지정된 경우 만료된 항목은 조회되지 않습니다.
+ * Redis 등 원격 저장소 앞단에서 반복 조회를 줄이는 용도로 사용합니다.
+ */
+public class LocalLruCache<K, V> {
+
+	private final Map<K, Entry<V>> entries;
+	private final long ttlNanos;
+	private final LongSupplier nanoClock;
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+
+	/**
+	 * @param maxSize 최대 보관 개수
+	 * @param ttl 항목 만료 시간, null이거나 0 이하인 경우 만료되지 않음
+	 */
+	public LocalLruCache(int maxSize, Duration ttl) {
+		this(maxSize, ttl, System::nanoTime);
+	}
+
+	/**
+	 * @param nanoClock 만료 판단에 사용하는 현재 시각(나노초), 테스트에서 시간을 직접 진행할 때 사용
+	 */
+	LocalLruCache(int maxSize, Duration ttl, LongSupplier nanoClock) {
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+				return size() > maxSize;
+			}
+		};
+		this.ttlNanos = ttl == null ? 0 : ttl.toNanos();
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * 항목을 조회합니다. 없거나 만료된 경우 null을 반환합니다.
+	 */
+	public V get(K key) {
+		synchronized (entries) {
+			Entry<V> entry = entries.get(key);
+			if (entry == null) {
+				missCount.incrementAndGet();
+				return null;
+			}
+			if (entry.isExpired(nanoClock.getAsLong())) {
+				entries.remove(key);
+				missCount.incrementAndGet();
+				return null;
+			}
+			hitCount.incrementAndGet();
+			return entry.value();
+		}
+	}
+
+	public void put(K key, V value) {
+		Entry<V> entry = ttlNanos > 0
+			? new Entry<>(value, nanoClock.getAsLong() + ttlNanos, true)
+			: new Entry<>(value, 0, false);
+		synchronized (entries) {
+			entries.put(key, entry);
+		}
+	}
+
+	public void remove(K key) {
+		synchronized (entries) {
+			entries.remove(key);
+		}
+	}
+
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * nanoTime은 값 자체가 아닌 차이로만 비교해야 하므로, 만료 여부도 뺄셈으로 판단합니다.
+	 */
+	private record Entry<V>(V value, long expiresAt, boolean expires) {
+
+		private boolean isExpired(long now) {
+			return expires && now - expiresAt >= 0;
+		}
+	}
+}
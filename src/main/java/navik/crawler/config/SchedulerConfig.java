@@ -11,8 +11,9 @@ public class SchedulerConfig {
 	public ThreadPoolTaskScheduler taskScheduler() {
 		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
 
-		scheduler.setPoolSize(2);
+		scheduler.setPoolSize(3);    // 크롤링, 크롤링 스케쥴, 스트림 지연 확인
 		scheduler.setThreadNamePrefix("crawler-scheduler-");
+		scheduler.setVirtualThreads(true);    // 크롤링 작업은 대부분 I/O 대기이므로 가상 스레드에서 실행
 		scheduler.setRemoveOnCancelPolicy(true);
 		scheduler.initialize();
 
@@ -4,7 +4,11 @@ import java.time.Duration;
 import java.util.List;
 
 public class CrawlerConstant {
-	public static final Duration CLICK_WAIT_TIME = Duration.ofSeconds(5); // selenium 대기 시간
+	public static final Duration CLICK_WAIT_TIME = Duration.ofSeconds(5); // selenium 초기 대기 시간
+	public static final Duration READINESS_MIN_TIMEOUT = Duration.ofSeconds(2); // 조정된 대기 시간의 하한
+	public static final Duration READINESS_MAX_TIMEOUT = Duration.ofSeconds(30); // 조정된 대기 시간의 상한
+	public static final double READINESS_TIMEOUT_MULTIPLIER = 2.0; // p95 지연 시간 대비 여유 배수
+	public static final Duration NETWORK_IDLE_WINDOW = Duration.ofMillis(500); // 이 시간 동안 요청이 없으면 idle
 	public static final int CRAWL_PAGES_PER_JOB = 2; // 2개 페이지 파싱
 	public static final List<String> INVALID_RECRUITMENT_TITLES = List.of("교육", "국비", "캠프", "취업");
 }
@@ -3,5 +3,22 @@ package navik.crawler.constants;
 public class JobKoreaConstant {
 	public static final String BASE_URL = "https://www.jobkorea.co.kr";
 	public static final String RECRUITMENT_LIST_URL = "https://www.jobkorea.co.kr/recruit/joblist?menucode=duty";
+	public static final String RECRUITMENT_DETAIL_URL = "https://www.jobkorea.co.kr/Recruit/GI_Read/";
 	public static final String RECRUITMENT_DETAIL_URL_PATTERN = "https://www.jobkorea.co.kr/Recruit/GI_Read/(\\d+)";
+
+	// 공고 목록 url 파라미터 (검색 필터 UI와 동일한 조건)
+	public static final String LIST_PARAM_DUTY_CATEGORY = "dutyCtgr";  // 1단계 직무 코드
+	public static final String LIST_PARAM_DUTY = "duty";               // 2단계 직무 코드
+	public static final String LIST_PARAM_ORDER = "order";
+	public static final String LIST_PARAM_PAGE_SIZE = "pagesize";
+	public static final String LIST_PARAM_PAGE = "page";
+	public static final String LIST_ORDER_LATEST = "2";    // 등록일 순
+	public static final int LIST_PAGE_SIZE = 50;           // 한 페이지 당 50개씩 노출
+	public static final String LIST_PAGE_ANCHOR_PREFIX = "anchorGICnt_";
+
+	// 공고 목록 필터 UI 요소
+	public static final String LIST_DUTY_CHECKBOX_ID_PREFIX = "duty_step2_";    // 2단계 직무 체크박스
+	public static final String LIST_ORDER_SELECT_ID = "orderTab";
+	public static final String LIST_PAGE_SIZE_SELECT_ID = "pstab";
+	public static final String LIST_PAGER_LINK_SELECTOR = ".tplPagination a[data-page='%d']";
 }
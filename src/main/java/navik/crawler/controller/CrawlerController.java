@@ -41,6 +41,9 @@ public class CrawlerController {
 		return ResponseEntity.ok(
 			Map.of(
 				"running", crawlerControlService.isRunning(),
+				"publishPaused", crawlerControlService.isPublishPaused(),
+				"streamLag", crawlerControlService.getStreamLag(),
+				"lastBackpressureEvent", crawlerControlService.getLastBackpressureEvent(),
 				"timestamp", LocalDateTime.now()
 			).toString()
 		);
@@ -0,0 +1,19 @@
+package navik.crawler.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 회사 레지스트리에 보관되는 회사 정보입니다.
+ * 같은 회사의 공고끼리 공유되며, 공고에는 companyId로 참조됩니다.
+ */
+@Getter
+@Builder
+public class Company {
+
+	private String companyId;
+	private String companyUrl;
+	private String companyName;
+	private String companyLogo;
+	private String companyInfo;    // 사원수, 기업구분, 산업(업종) 등
+}
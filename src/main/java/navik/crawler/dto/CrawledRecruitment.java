@@ -1,6 +1,8 @@
 package navik.crawler.dto;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.regex.Pattern;
 
 import lombok.Builder;
 import lombok.Getter;
@@ -9,9 +11,12 @@ import lombok.Getter;
 @Builder
 public class CrawledRecruitment {
 
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
 	private String link;
 	private String title;
 	private String postId;
+	private String companyId;
 	private String companyName;
 	private String companyLogo;
 	private String companyInfo;
@@ -33,4 +38,23 @@ public class CrawledRecruitment {
 			+ "\n<모집 요강>" + outline + "</모집 요강>\n"
 			+ "\n<채용 공고 상세>" + recruitmentDetail + "</채용 공고 상세>\n";
 	}
+
+	/**
+	 * 본문 변경 여부를 판단하기 위한 문자열입니다.
+	 * 크롤링 시각, 남은 기간처럼 매번 달라지는 값과 링크, postId는 제외합니다.
+	 */
+	public String toContentString() {
+		return String.join("\n",
+			normalize(title),
+			normalize(companyId),
+			normalize(companyName),
+			normalize(companyInfo),
+			normalize(qualification),
+			normalize(outline),
+			normalize(recruitmentDetail));
+	}
+
+	private static String normalize(String value) {
+		return WHITESPACE.matcher(Objects.toString(value, "")).replaceAll(" ").strip();
+	}
 }
@@ -3,8 +3,11 @@ package navik.crawler.dto;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 import navik.ai.enums.AreaType;
 import navik.ai.enums.CompanySize;
 import navik.ai.enums.EducationLevel;
@@ -15,12 +18,14 @@ import navik.ai.enums.JobType;
 import navik.ai.enums.MajorType;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@Jacksonized
 public class Recruitment {
 
 	private String link;
 	private String title;
 	private String postId;
+	private String companyId;      // 회사 레지스트리 참조
 	private String companyName;
 	private String companyLogo;
 	private CompanySize companySize;
@@ -31,7 +36,8 @@ public class Recruitment {
 	private String summary;
 
 	@Getter
-	@Builder
+	@Builder(toBuilder = true)
+	@Jacksonized
 	public static class Position {
 		private String name;
 		private JobType jobType;
@@ -44,10 +50,14 @@ public class Recruitment {
 		private List<KPI> kpis;
 
 		@Getter
-		@Builder
+		@Builder(toBuilder = true)
+		@Jacksonized
+		@JsonInclude(JsonInclude.Include.NON_NULL)
 		public static class KPI {
 			private String kpi;
 			private float[] embedding;
+			private String embeddingEncoded;    // 압축 인코딩 시 VectorCodec 포맷의 base64, embedding은 생략
+			private String embeddingRef;        // 참조 방식 시 {streamKey}:vector:{embeddingRef} 키에 저장, embedding은 생략
 		}
 	}
 }
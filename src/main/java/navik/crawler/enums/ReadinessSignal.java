@@ -0,0 +1,13 @@
+package navik.crawler.enums;
+
+/**
+ * 페이지 준비 완료를 판단하는 신호의 종류입니다.
+ * 신호별로 관측된 지연 시간을 따로 기록하여 대기 시간을 조정합니다.
+ */
+public enum ReadinessSignal {
+
+	SEARCH_RESULTS,    // 검색 결과 목록 교체
+	LIST_PAGE,         // 공고 목록 페이지 로딩
+	DETAIL_PAGE,       // 공고 상세 페이지 로딩
+	NETWORK_IDLE       // 네트워크 요청 종료
+}
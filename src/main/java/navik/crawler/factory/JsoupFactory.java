@@ -6,18 +6,27 @@ import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.springframework.stereotype.Component;
 
+import lombok.RequiredArgsConstructor;
+import navik.io.enums.Downstream;
+import navik.io.executor.BlockingIoExecutor;
+
 @Component
+@RequiredArgsConstructor
 public class JsoupFactory {
 
+	private final BlockingIoExecutor blockingIoExecutor;
+
 	public Document createDocument(String url) {
-		try {
-			return Jsoup.connect(url)
-				.userAgent(
-					"Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/114.0.0.0 Safari/537.36")
-				.timeout(10000)
-				.get();
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		}
+		return blockingIoExecutor.call(Downstream.JOBKOREA, () -> {
+			try {
+				return Jsoup.connect(url)
+					.userAgent(
+						"Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/114.0.0.0 Safari/537.36")
+					.timeout(10000)
+					.get();
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		});
 	}
 }
@@ -0,0 +1,29 @@
+package navik.crawler.factory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import navik.crawler.pipeline.RecruitmentPipeline;
+import navik.crawler.service.RecruitmentProcessor;
+
+@Component
+@RequiredArgsConstructor
+public class RecruitmentPipelineFactory {
+
+	private final RecruitmentProcessor recruitmentProcessor;
+
+	@Value("${crawler.pipeline.queue-capacity}")
+	private int queueCapacity;
+	@Value("${crawler.pipeline.llm-concurrency}")
+	private int llmConcurrency;
+	@Value("${crawler.pipeline.embedding-concurrency}")
+	private int embeddingConcurrency;
+	@Value("${crawler.pipeline.publish-concurrency}")
+	private int publishConcurrency;
+
+	public RecruitmentPipeline createPipeline() {
+		return new RecruitmentPipeline(recruitmentProcessor, new RecruitmentPipeline.Settings(
+			queueCapacity, llmConcurrency, embeddingConcurrency, publishConcurrency));
+	}
+}
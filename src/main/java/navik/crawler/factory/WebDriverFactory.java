@@ -1,17 +1,34 @@
 package navik.crawler.factory;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.springframework.stereotype.Component;
 
-import navik.crawler.constants.CrawlerConstant;
+import lombok.RequiredArgsConstructor;
+import navik.crawler.enums.ReadinessSignal;
+import navik.crawler.util.PageReadinessWaiter;
 
 @Component
+@RequiredArgsConstructor
 public class WebDriverFactory {
 
-	public WebDriver createChromeDriver() {
+	private final PageReadinessWaiter pageReadinessWaiter;
+
+	private static final String USER_DATA_DIR_PREFIX = "navik-chrome-";
+
+	/**
+	 * 독립된 포트와 user-data-dir을 가지는 크롬 드라이버를 생성합니다.
+	 * 여러 드라이버를 동시에 띄워도 서로의 프로필, 세션이 충돌하지 않습니다.
+	 */
+	public WebDriver createChromeDriver(Path userDataDir) {
 
 		ChromeOptions options = new ChromeOptions();
 		options.addArguments("--start-maximized");
@@ -23,13 +40,38 @@ public class WebDriverFactory {
 		options.addArguments("--remote-allow-origins=*");
 		options.addArguments("--disable-blink-features=AutomationControlled");
 		options.addArguments("--headless=new"); // UI 없이 실행
+		options.addArguments("--user-data-dir=" + userDataDir.toAbsolutePath()); // 드라이버 별 프로필 분리
 
-		// 멀티스레딩 시 포트 충돌 처리 필요
+		// 드라이버 별로 비어있는 포트를 할당받아 멀티스레딩 시 포트 충돌 방지
+		ChromeDriverService service = new ChromeDriverService.Builder()
+			.usingAnyFreePort()
+			.build();
 
-		return new ChromeDriver(options);
+		return new ChromeDriver(service, options);
 	}
 
+	/**
+	 * size개의 크롬 드라이버를 가지는 드라이버 풀을 생성합니다.
+	 */
+	public WebDriverPool createDriverPool(int size) {
+		return new WebDriverPool(this, size);
+	}
+
+	/**
+	 * 최근 상세 페이지 로딩 지연 시간에 맞춰 조정된 대기 시간으로 WebDriverWait을 생성합니다.
+	 */
 	public WebDriverWait createDriverWait(WebDriver driver) {
-		return new WebDriverWait(driver, CrawlerConstant.CLICK_WAIT_TIME);
+		return new WebDriverWait(driver, pageReadinessWaiter.timeoutOf(ReadinessSignal.DETAIL_PAGE));
+	}
+
+	/**
+	 * 드라이버 전용 user-data-dir을 임시 디렉터리에 생성합니다.
+	 */
+	Path createUserDataDir() {
+		try {
+			return Files.createTempDirectory(USER_DATA_DIR_PREFIX);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
 	}
 }
@@ -0,0 +1,116 @@
+package navik.crawler.factory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Stream;
+
+import org.openqa.selenium.WebDriver;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 크롤링 작업 간에 공유되는 크롬 드라이버 풀입니다.
+ * 작업은 borrow()로 드라이버를 빌려 사용하고, 끝나면 release()로 반납합니다.
+ */
+@Slf4j
+public class WebDriverPool implements AutoCloseable {
+
+	private final WebDriverFactory webDriverFactory;
+	private final BlockingQueue<WebDriver> idleDrivers = new LinkedBlockingQueue<>();
+	private final Map<WebDriver, Path> userDataDirs = new ConcurrentHashMap<>();
+	private final int size;
+
+	WebDriverPool(WebDriverFactory webDriverFactory, int size) {
+		if (size < 1) {
+			throw new IllegalArgumentException("드라이버 풀 크기는 1 이상이어야 합니다: " + size);
+		}
+		this.webDriverFactory = webDriverFactory;
+		this.size = size;
+
+		// 포트 할당이 겹치지 않도록 순차적으로 생성
+		try {
+			for (int i = 0; i < size; i++) {
+				idleDrivers.add(newDriver());
+			}
+		} catch (RuntimeException exception) {
+			close();
+			throw exception;
+		}
+		log.info("[WebDriverPool] 크롬 드라이버 {}개 생성 완료", size);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * 사용 가능한 드라이버가 생길 때까지 대기한 후 드라이버를 빌려줍니다.
+	 */
+	public WebDriver borrow() throws InterruptedException {
+		return idleDrivers.take();
+	}
+
+	/**
+	 * 사용이 끝난 드라이버를 풀에 반납합니다.
+	 */
+	public void release(WebDriver driver) {
+		idleDrivers.offer(driver);
+	}
+
+	/**
+	 * 세션이 끊긴 드라이버를 종료하고, 새 드라이버로 교체하여 풀에 반납합니다.
+	 */
+	public void replace(WebDriver driver) {
+		quit(driver);
+		try {
+			idleDrivers.offer(newDriver());
+		} catch (RuntimeException exception) {
+			log.error("[WebDriverPool] 드라이버 교체 실패: {}", exception.getMessage());
+		}
+	}
+
+	@Override
+	public void close() {
+		userDataDirs.keySet().forEach(this::quit);
+		idleDrivers.clear();
+	}
+
+	private WebDriver newDriver() {
+		Path userDataDir = webDriverFactory.createUserDataDir();
+		try {
+			WebDriver driver = webDriverFactory.createChromeDriver(userDataDir);
+			userDataDirs.put(driver, userDataDir);
+			return driver;
+		} catch (RuntimeException exception) {
+			deleteDirectory(userDataDir);
+			throw exception;
+		}
+	}
+
+	private void quit(WebDriver driver) {
+		try {
+			driver.quit();
+		} catch (Exception exception) {
+			log.warn("[WebDriverPool] 드라이버 종료 실패: {}", exception.getMessage());
+		}
+		Path userDataDir = userDataDirs.remove(driver);
+		if (userDataDir != null) {
+			deleteDirectory(userDataDir);
+		}
+	}
+
+	private void deleteDirectory(Path directory) {
+		try (Stream<Path> paths = Files.walk(directory)) {
+			paths.sorted(Comparator.reverseOrder())
+				.forEach(path -> path.toFile().delete());
+		} catch (IOException exception) {
+			log.warn("[WebDriverPool] user-data-dir 삭제 실패: {}", directory);
+		}
+	}
+}
@@ -0,0 +1,95 @@
+package navik.crawler.pipeline;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 크기가 제한된 큐와 가상 스레드 기반 작업자로 구성된 파이프라인 단계입니다.
+ * 큐가 가득 차면 submit()이 대기하므로, 느린 단계가 앞 단계의 속도를 자연스럽게 제한합니다(backpressure).
+ */
+@Slf4j
+public class PipelineStage<T> {
+
+	private static final long POLL_TIMEOUT_MS = 200;
+
+	private final String name;
+	private final BlockingQueue<T> queue;
+	private final Handler<T> handler;
+	private final ExecutorService workers;
+	private volatile boolean closed = false;
+
+	public PipelineStage(String name, int capacity, int concurrency, Handler<T> handler) {
+		this.name = name;
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		this.handler = handler;
+		this.workers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+		for (int i = 0; i < concurrency; i++) {
+			workers.execute(this::work);
+		}
+	}
+
+	/**
+	 * 단계에 작업을 추가합니다. 큐가 가득 찬 경우 빈 자리가 생길 때까지 대기합니다.
+	 */
+	public void submit(T item) throws InterruptedException {
+		if (closed) {
+			throw new IllegalStateException("이미 종료된 파이프라인 단계입니다: " + name);
+		}
+		queue.put(item);
+	}
+
+	/**
+	 * 더 이상 작업을 받지 않고, 큐에 남은 작업을 모두 처리한 후 종료합니다.
+	 */
+	public void close() {
+		closed = true;
+		workers.shutdown();
+		try {
+			while (!workers.awaitTermination(1, TimeUnit.MINUTES)) {
+				log.info("[{}] 남은 작업 처리 대기 중 (대기 {}건)", name, queue.size());
+			}
+		} catch (InterruptedException exception) {
+			abort();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * 큐에 남은 작업을 버리고 즉시 종료합니다.
+	 */
+	public void abort() {
+		closed = true;
+		queue.clear();
+		workers.shutdownNow();
+	}
+
+	private void work() {
+		while (!closed || !queue.isEmpty()) {
+			try {
+				T item = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+				if (item != null) {
+					handler.handle(item);
+				}
+			} catch (InterruptedException exception) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (Exception exception) {
+				log.error("[{}] 단계 처리 중 오류 발생: {}", name, exception.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * 단계에서 하나의 작업을 처리하는 함수입니다.
+	 * 다음 단계의 큐가 가득 찬 경우 대기할 수 있으므로 InterruptedException을 허용합니다.
+	 */
+	@FunctionalInterface
+	public interface Handler<T> {
+		void handle(T item) throws InterruptedException;
+	}
+}
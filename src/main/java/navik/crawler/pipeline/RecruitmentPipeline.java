@@ -0,0 +1,116 @@
+package navik.crawler.pipeline;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.extern.slf4j.Slf4j;
+import navik.ai.dto.LLMResponseDTO;
+import navik.crawler.dto.CrawledRecruitment;
+import navik.crawler.dto.Recruitment;
+import navik.crawler.service.RecruitmentProcessor;
+
+/**
+ * 크롤링된 채용 공고를 LLM 추출 -> KPI 임베딩 -> 스트림 발행 단계로 처리하는 파이프라인입니다.
+ * 각 단계는 독립된 큐와 작업 스레드를 가지므로, 브라우저는 AI 호출을 기다리지 않고 다음 공고를 크롤링합니다.
+ * 하나의 스케쥴링 실행 동안만 사용됩니다.
+ */
+@Slf4j
+public class RecruitmentPipeline {
+
+	private final RecruitmentProcessor recruitmentProcessor;
+	private final PipelineStage<CrawledRecruitment> llmStage;
+	private final PipelineStage<Extracted> embeddingStage;
+	private final PipelineStage<Enriched> publishStage;
+
+	private final Set<String> acceptedPostIds = ConcurrentHashMap.newKeySet();    // 한 번의 실행 내 중복 방지
+	private final AtomicInteger publishedCount = new AtomicInteger();
+	private final AtomicInteger failedCount = new AtomicInteger();
+	private final AtomicInteger reusedCount = new AtomicInteger();    // 본문 지문이 같아 LLM을 생략한 공고
+
+	public RecruitmentPipeline(RecruitmentProcessor recruitmentProcessor, Settings settings) {
+		this.recruitmentProcessor = recruitmentProcessor;
+		this.publishStage = new PipelineStage<>("pipeline-publish",
+			settings.queueCapacity(), settings.publishConcurrency(), this::publish);
+		this.embeddingStage = new PipelineStage<>("pipeline-embedding",
+			settings.queueCapacity(), settings.embeddingConcurrency(), this::embed);
+		this.llmStage = new PipelineStage<>("pipeline-llm",
+			settings.queueCapacity(), settings.llmConcurrency(), this::extract);
+	}
+
+	/**
+	 * 크롤링된 채용 공고를 파이프라인에 추가합니다.
+	 * LLM 단계의 큐가 가득 찬 경우, 빈 자리가 생길 때까지 크롤링 스레드가 대기합니다.
+	 */
+	public void submit(CrawledRecruitment crawledRecruitment) throws InterruptedException {
+		String postId = crawledRecruitment.getPostId();
+		if (!postId.isBlank() && !acceptedPostIds.add(postId)) {
+			log.info("[RecruitmentPipeline] 이번 실행에서 이미 처리 중인 공고입니다: {}", postId);
+			return;
+		}
+		llmStage.submit(crawledRecruitment);
+	}
+
+	/**
+	 * 앞 단계부터 순서대로, 남은 작업을 모두 처리한 후 종료합니다.
+	 */
+	public void close() {
+		llmStage.close();
+		embeddingStage.close();
+		publishStage.close();
+		log.info("[RecruitmentPipeline] 종료 - 접수 {}건, 재사용 {}건, 발행 {}건, 실패 {}건",
+			acceptedPostIds.size(), reusedCount.get(), publishedCount.get(), failedCount.get());
+	}
+
+	/**
+	 * 남은 작업을 버리고 즉시 종료합니다.
+	 */
+	public void abort() {
+		llmStage.abort();
+		embeddingStage.abort();
+		publishStage.abort();
+		log.warn("[RecruitmentPipeline] 강제 종료 - 발행 {}건", publishedCount.get());
+	}
+
+	private void extract(CrawledRecruitment crawledRecruitment) throws InterruptedException {
+
+		// 본문이 바뀌지 않은 공고는 이전 결과를 바로 발행 단계로 전달
+		Optional<Recruitment> unchanged = recruitmentProcessor.findUnchanged(crawledRecruitment);
+		if (unchanged.isPresent()) {
+			reusedCount.incrementAndGet();
+			log.info("[RecruitmentPipeline] 본문이 바뀌지 않은 공고입니다: {}", crawledRecruitment.getPostId());
+			publishStage.submit(new Enriched(crawledRecruitment, unchanged.get()));
+			return;
+		}
+
+		LLMResponseDTO.Recruitment llmResult = recruitmentProcessor.extract(crawledRecruitment);
+		embeddingStage.submit(new Extracted(crawledRecruitment, llmResult));
+	}
+
+	private void embed(Extracted extracted) throws InterruptedException {
+		Recruitment recruitment = recruitmentProcessor.embed(extracted.crawledRecruitment(), extracted.llmResult());
+		publishStage.submit(new Enriched(extracted.crawledRecruitment(), recruitment));
+	}
+
+	private void publish(Enriched enriched) throws InterruptedException {
+		boolean produced = recruitmentProcessor.publish(enriched.crawledRecruitment(), enriched.recruitment());
+		if (produced) {
+			publishedCount.incrementAndGet();
+		} else {
+			failedCount.incrementAndGet();
+		}
+	}
+
+	/**
+	 * 파이프라인 단계별 큐 크기와 동시 처리 개수입니다.
+	 */
+	public record Settings(int queueCapacity, int llmConcurrency, int embeddingConcurrency, int publishConcurrency) {
+	}
+
+	private record Extracted(CrawledRecruitment crawledRecruitment, LLMResponseDTO.Recruitment llmResult) {
+	}
+
+	private record Enriched(CrawledRecruitment crawledRecruitment, Recruitment recruitment) {
+	}
+}
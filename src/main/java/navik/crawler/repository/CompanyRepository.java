@@ -0,0 +1,74 @@
+package navik.crawler.repository;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import navik.crawler.dto.Company;
+
+/**
+ * Redis Hash를 사용한 회사 정보 저장소
+ * Key: {streamKey}:company:{companyId}
+ * Field: companyUrl, companyName, companyLogo, companyInfo
+ */
+@Repository
+public class CompanyRepository {
+
+	private static final String KEY_SUFFIX = ":company:";
+
+	private final StringRedisTemplate redisTemplate;
+	private final HashOperations<String, String, String> hashOperations;
+	private final String keyPrefix;
+
+	public CompanyRepository(
+		StringRedisTemplate redisTemplate,
+		@Value("${spring.data.redis.stream.keys.crawl}") String streamKey
+	) {
+		this.redisTemplate = redisTemplate;
+		this.hashOperations = redisTemplate.opsForHash();
+		this.keyPrefix = streamKey + KEY_SUFFIX;
+	}
+
+	/**
+	 * 회사 정보 조회
+	 */
+	public Optional<Company> find(String companyId) {
+		Map<String, String> fields = hashOperations.entries(keyPrefix + companyId);
+		if (fields.isEmpty()) {
+			return Optional.empty();
+		}
+		return Optional.of(Company.builder()
+			.companyId(companyId)
+			.companyUrl(fields.get("companyUrl"))
+			.companyName(fields.get("companyName"))
+			.companyLogo(fields.get("companyLogo"))
+			.companyInfo(fields.get("companyInfo"))
+			.build());
+	}
+
+	/**
+	 * 회사 정보 저장, ttl이 지나면 다시 수집됩니다.
+	 */
+	public void save(Company company, Duration ttl) {
+		String key = keyPrefix + company.getCompanyId();
+		Map<String, String> fields = new HashMap<>();
+		putIfPresent(fields, "companyUrl", company.getCompanyUrl());
+		putIfPresent(fields, "companyName", company.getCompanyName());
+		putIfPresent(fields, "companyLogo", company.getCompanyLogo());
+		putIfPresent(fields, "companyInfo", company.getCompanyInfo());
+		hashOperations.putAll(key, fields);
+		redisTemplate.expire(key, ttl);
+	}
+
+	private void putIfPresent(Map<String, String> fields, String field, String value) {
+		if (value != null) {
+			fields.put(field, value);
+		}
+	}
+}
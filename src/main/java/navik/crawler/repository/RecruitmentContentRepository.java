@@ -0,0 +1,57 @@
+package navik.crawler.repository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import navik.crawler.dto.Recruitment;
+
+/**
+ * 채용 공고 본문 지문별로 발행된 결과를 보관하는 저장소
+ * Key: {streamKey}:content:{fingerprint}
+ * Value: 발행된 Recruitment JSON
+ */
+@Repository
+public class RecruitmentContentRepository {
+
+	private static final String KEY_SUFFIX = ":content:";
+
+	private final ValueOperations<String, String> valueOperations;
+	private final ObjectMapper objectMapper;
+	private final String keyPrefix;
+
+	public RecruitmentContentRepository(
+		StringRedisTemplate redisTemplate,
+		ObjectMapper objectMapper,
+		@Value("${spring.data.redis.stream.keys.crawl}") String streamKey
+	) {
+		this.valueOperations = redisTemplate.opsForValue();
+		this.objectMapper = objectMapper;
+		this.keyPrefix = streamKey + KEY_SUFFIX;
+	}
+
+	/**
+	 * 같은 본문으로 발행된 채용 공고 조회
+	 */
+	public Optional<Recruitment> find(String fingerprint) throws JsonProcessingException {
+		String json = valueOperations.get(keyPrefix + fingerprint);
+		if (json == null) {
+			return Optional.empty();
+		}
+		return Optional.of(objectMapper.readValue(json, Recruitment.class));
+	}
+
+	/**
+	 * 발행된 채용 공고 저장, 보관 기간이 지나면 다시 LLM으로 추출됩니다.
+	 */
+	public void save(String fingerprint, Recruitment recruitment, Duration ttl) throws JsonProcessingException {
+		valueOperations.set(keyPrefix + fingerprint, objectMapper.writeValueAsString(recruitment), ttl);
+	}
+}
@@ -0,0 +1,55 @@
+package navik.crawler.repository;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Redis Sorted Set을 사용한 처리 완료 채용 공고 인덱스
+ * 발행된 공고와 제목 검사로 제외된 공고를 함께 기록하여, 다음 크롤링에서 다시 열지 않습니다.
+ * Key: {streamKey}:seen
+ * Member: postId
+ * Score: 발행 또는 제외 시각 (epoch millis)
+ */
+@Repository
+public class SeenRecruitmentRepository {
+
+	private static final String KEY_SUFFIX = ":seen";
+
+	private final ZSetOperations<String, String> zSetOperations;
+	private final String key;
+
+	public SeenRecruitmentRepository(
+		StringRedisTemplate redisTemplate,
+		@Value("${spring.data.redis.stream.keys.crawl}") String streamKey
+	) {
+		this.zSetOperations = redisTemplate.opsForZSet();
+		this.key = streamKey + KEY_SUFFIX;
+	}
+
+	/**
+	 * 이미 처리된 채용 공고인지 확인
+	 */
+	public boolean exists(String postId) {
+		return zSetOperations.score(key, postId) != null;
+	}
+
+	/**
+	 * 발행 완료 또는 제외된 채용 공고 저장
+	 */
+	public void save(String postId) {
+		zSetOperations.add(key, postId, System.currentTimeMillis());
+	}
+
+	/**
+	 * 보관 기간이 지난 채용 공고 삭제
+	 */
+	public long deleteOlderThan(Duration retention) {
+		long threshold = System.currentTimeMillis() - retention.toMillis();
+		Long removed = zSetOperations.removeRangeByScore(key, 0, threshold);
+		return removed == null ? 0 : removed;
+	}
+}
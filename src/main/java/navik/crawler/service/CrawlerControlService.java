@@ -4,12 +4,14 @@ import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 import navik.crawler.scheduler.CrawlerScheduler;
+import navik.redis.monitor.StreamLagMonitor;
 
 @Service
 @RequiredArgsConstructor
 public class CrawlerControlService {
 
 	private final CrawlerScheduler scheduler;
+	private final StreamLagMonitor streamLagMonitor;
 
 	public boolean triggerSchedule() {
 		return scheduler.scheduledCrawl();
@@ -22,4 +24,16 @@ public class CrawlerControlService {
 	public boolean isRunning() {
 		return scheduler.isRunning();
 	}
+
+	public boolean isPublishPaused() {
+		return streamLagMonitor.isPaused();
+	}
+
+	public long getStreamLag() {
+		return streamLagMonitor.getLag();
+	}
+
+	public String getLastBackpressureEvent() {
+		return streamLagMonitor.getLastEvent();
+	}
 }
@@ -1,31 +1,42 @@
 package navik.crawler.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.jsoup.nodes.Document;
 import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import navik.ai.client.EmbeddingClient;
-import navik.ai.client.LLMClient;
-import navik.ai.dto.LLMResponseDTO;
 import navik.crawler.constants.JobKoreaConstant;
+import navik.crawler.dto.Company;
 import navik.crawler.dto.CrawledRecruitment;
-import navik.crawler.dto.Recruitment;
 import navik.crawler.enums.JobCode;
+import navik.crawler.factory.RecruitmentPipelineFactory;
 import navik.crawler.factory.WebDriverFactory;
+import navik.crawler.factory.WebDriverPool;
+import navik.crawler.pipeline.RecruitmentPipeline;
+import navik.crawler.repository.SeenRecruitmentRepository;
 import navik.crawler.util.CrawlerDataExtractor;
+import navik.crawler.util.CrawlerDetailFetcher;
 import navik.crawler.util.CrawlerSearchHelper;
 import navik.crawler.util.CrawlerValidator;
-import navik.redis.client.RedisStreamProducer;
+import navik.crawler.util.PageReadinessWaiter;
 
 @Slf4j
 @Service
@@ -35,113 +46,200 @@ public class CrawlerService {
 	private final WebDriverFactory webDriverFactory;
 	private final CrawlerSearchHelper crawlerSearchHelper;
 	private final CrawlerDataExtractor crawlerDataExtractor;
+	private final CrawlerDetailFetcher crawlerDetailFetcher;
 	private final CrawlerValidator crawlerValidator;
-	private final LLMClient llmClient;
-	private final EmbeddingClient embeddingClient;
-	private final RedisStreamProducer redisStreamProducer;
+	private final PageReadinessWaiter pageReadinessWaiter;
+	private final RecruitmentPipelineFactory recruitmentPipelineFactory;
+	private final SeenRecruitmentRepository seenRecruitmentRepository;
 
-	@Value("${spring.data.redis.stream.keys.crawl}")
-	private String recruitmentStreamKey;
+	@Value("${crawler.driver-pool-size}")
+	private int driverPoolSize;
+	@Value("${crawler.snapshot-enabled}")
+	private boolean snapshotEnabled;
+	@Value("${crawler.http-fast-path-enabled}")
+	private boolean httpFastPathEnabled;
+	@Value("${crawler.seen.stop-threshold}")
+	private int seenStopThreshold;
+	@Value("${crawler.seen.retention-days}")
+	private long seenRetentionDays;
 
 	/**
 	 * 스케쥴링에 의해 주기적으로 실행되는 메서드입니다.
+	 * 직무 x 페이지 단위로 작업을 나누어, 드라이버 풀 크기만큼 동시에 크롤링합니다.
 	 */
 	public void scheduledCrawl(Integer pagesToCrawl) {
-		// 1. 크롬 드라이버 생성
-		WebDriver driver = webDriverFactory.createChromeDriver();
-		WebDriverWait wait = webDriverFactory.createDriverWait(driver);
+		log.info("스케쥴링이 시작되었습니다. 시간: {}", LocalDateTime.now());
 
-		// 2. JobCode(직무)별 크롤링
-		try {
-			log.info("스케쥴링이 시작되었습니다. 시간: {}", LocalDateTime.now());
+		// 1. 보관 기간이 지난 발행 이력 정리
+		cleanUpSeenRecruitments();
+
+		// 2. 변환, 적재 파이프라인 및 크롬 드라이버 풀 생성
+		RecruitmentPipeline pipeline = recruitmentPipelineFactory.createPipeline();
+		boolean interrupted = false;
+		try (WebDriverPool driverPool = webDriverFactory.createDriverPool(driverPoolSize)) {
+
+			// 3. JobCode(직무) x 페이지 단위로 작업 분할
+			Set<JobCode> exhaustedJobCodes = ConcurrentHashMap.newKeySet();    // 이미 발행한 공고에 도달한 직무
+			List<Callable<Void>> tasks = new ArrayList<>();
 			for (JobCode jobCode : JobCode.values()) {
-				log.info("=== [{}] 직무 크롤링 시작 ===", jobCode.name());
-				driver.get(JobKoreaConstant.RECRUITMENT_LIST_URL);
-				search(wait, jobCode);    // 직무 기반 필터 적용 및 검색
-				processPages(driver, wait, pagesToCrawl); // 페이지 수 만큼 파싱
+				for (int page = 1; page <= pagesToCrawl; page++) {
+					int currentPage = page;
+					tasks.add(() -> {
+						crawlPage(driverPool, pipeline, jobCode, currentPage, exhaustedJobCodes);
+						return null;
+					});
+				}
 			}
-			log.info("스케쥴링이 종료되었습니다. 시간: {}", LocalDateTime.now());
+
+			// 4. 작업마다 가상 스레드에서 처리, 동시 처리 수는 드라이버 풀의 borrow()가 드라이버 수 만큼으로 제한
+			ExecutorService executor = Executors.newThreadPerTaskExecutor(
+				Thread.ofVirtual().name("crawler-page-", 0).factory());
+			try {
+				executor.invokeAll(tasks);
+			} finally {
+				executor.shutdownNow();
+			}
+		} catch (InterruptedException exception) {
+			interrupted = true;
+			log.warn("스케쥴링이 중단되었습니다. 시간: {}", LocalDateTime.now());
 		} catch (Exception exception) {
 			log.error("스케쥴링 작업 중 오류 발생\n{}", exception.getMessage());
 		} finally {
-			driver.quit(); // 리소스 해제
+			// 5. 크롤링이 끝난 후 파이프라인에 남은 공고 처리
+			if (interrupted) {
+				pipeline.abort();
+				Thread.currentThread().interrupt();
+			} else {
+				pipeline.close();
+				log.info("스케쥴링이 종료되었습니다. 시간: {}", LocalDateTime.now());
+			}
 		}
 	}
 
 	/**
-	 * 필터를 적용하여 직무 별 검색을 수행합니다.
+	 * 풀에서 드라이버를 빌려 한 직무의 한 페이지를 크롤링합니다.
 	 */
-	private void search(WebDriverWait wait, JobCode jobCode) {
-		crawlerSearchHelper.applyJobFilter(wait, jobCode);    // 필터 적용
-		crawlerSearchHelper.search(wait);    // 검색
-		crawlerSearchHelper.applySort(wait); // 정렬
-		crawlerSearchHelper.applyQuantity(wait);    // 한 페이지 당 보여질 개수 설정
+	private void crawlPage(WebDriverPool driverPool, RecruitmentPipeline pipeline, JobCode jobCode, int page,
+		Set<JobCode> exhaustedJobCodes) throws InterruptedException {
+		WebDriver driver = driverPool.borrow();
+		boolean sessionLost = false;
+		try {
+			// 드라이버를 기다리는 사이 앞 페이지에서 중단되었을 수 있으므로 빌린 후 확인
+			if (exhaustedJobCodes.contains(jobCode)) {
+				log.info("=== [{}] 직무 {}페이지는 이미 발행된 공고 이후이므로 건너뜁니다 ===", jobCode.name(), page);
+				return;
+			}
+			log.info("=== [{}] 직무 {}페이지 크롤링 시작 ===", jobCode.name(), page);
+			WebDriverWait wait = webDriverFactory.createDriverWait(driver);
+			openListPage(driver, wait, jobCode, page);    // 직무, 페이지가 적용된 목록으로 이동
+			boolean exhausted = processPage(driver, wait, pipeline, page); // 해당 페이지 파싱
+			if (exhausted) {
+				exhaustedJobCodes.add(jobCode);    // 최신순 정렬이므로 이후 페이지는 모두 발행된 공고
+			}
+		} catch (NoSuchSessionException exception) {
+			sessionLost = true;
+			log.error("[{}] 직무 {}페이지 크롤링 중 브라우저 세션 종료: {}", jobCode.name(), page, exception.getMessage());
+		} catch (InterruptedException exception) {
+			throw exception;
+		} catch (Exception exception) {
+			log.error("[{}] 직무 {}페이지 크롤링 중 오류 발생\n{}", jobCode.name(), page, exception.getMessage());
+		} finally {
+			if (sessionLost) {
+				driverPool.replace(driver);    // 세션이 끊긴 드라이버는 교체
+			} else {
+				driverPool.release(driver);
+			}
+		}
 	}
 
 	/**
-	 * 검색 이후 pages만큼 페이지를 처리합니다.
+	 * url 파라미터로 직무, 정렬, 페이지 크기, 페이지 번호가 적용된 목록으로 바로 이동합니다.
+	 * 목록이 표시되지 않거나 필터가 적용되지 않은 경우에만 필터 UI로 검색한 후 페이지를 이동합니다.
 	 */
-	private void processPages(WebDriver driver, WebDriverWait wait, int pages) {
-
-		// 1. base window 기억
-		String baseUrl = driver.getCurrentUrl();
-		String originalWindow = driver.getWindowHandle();
-		String newWindow = "";
+	private void openListPage(WebDriver driver, WebDriverWait wait, JobCode jobCode, int page) {
 
-		// 2. 해당 페이지로 이동
-		for (int currentPage = 1; currentPage <= pages; currentPage++) {
-
-			// currentPage로 이동
-			String newUrl = baseUrl.replace("#anchorGICnt_\\d+", "#anchorGICnt_" + currentPage);
-			driver.get(newUrl);
+		// 1. url 파라미터로 직접 이동 후 필터 적용 여부 검증
+		driver.get(crawlerSearchHelper.buildListUrl(jobCode, page));
+		try {
+			pageReadinessWaiter.awaitListPage(driver);
+			if (crawlerSearchHelper.isListFilterApplied(driver, jobCode)) {
+				return;
+			}
+			log.warn("[{}] 직무 {}페이지 url 파라미터가 적용되지 않아 필터 UI로 검색합니다.", jobCode.name(), page);
+		} catch (TimeoutException exception) {
+			log.warn("[{}] 직무 {}페이지 목록을 url로 열지 못하여 필터 UI로 검색합니다.", jobCode.name(), page);
+		}
 
-			// 공고 목록 대기
-			wait.until(ExpectedConditions.presenceOfElementLocated(
-				By.cssSelector("tr[data-index='0']")
-			));
+		// 2. 필터 UI로 검색한 후 페이지 이동
+		driver.get(JobKoreaConstant.RECRUITMENT_LIST_URL);
+		search(driver, wait, jobCode);
+		crawlerSearchHelper.goToPage(driver, page);
+		pageReadinessWaiter.awaitListPage(driver);
+	}
 
-			// 전체 공고 개수 확인
-			List<WebElement> posts = driver.findElements(By.cssSelector("tr[data-index] strong a"));
-			log.info("{}페이지에서 총 {}개의 공고 발견", currentPage, posts.size());
+	/**
+	 * 필터를 적용하여 직무 별 검색을 수행합니다.
+	 */
+	private void search(WebDriver driver, WebDriverWait wait, JobCode jobCode) {
+		crawlerSearchHelper.applyJobFilter(wait, jobCode);    // 필터 적용
+		crawlerSearchHelper.search(driver, wait);    // 검색
+		crawlerSearchHelper.applySort(wait); // 정렬
+		crawlerSearchHelper.applyQuantity(wait);    // 한 페이지 당 보여질 개수 설정
+	}
 
-			// 공고 처리
-			for (WebElement post : posts) {
+	/**
+	 * 현재 열려있는 currentPage 목록 페이지를 처리합니다.
+	 * 이미 발행된 공고가 연속으로 일정 개수 이상 나타나면 처리를 멈추고 true를 반환합니다.
+	 */
+	private boolean processPage(WebDriver driver, WebDriverWait wait, RecruitmentPipeline pipeline, int currentPage)
+		throws InterruptedException {
 
-				// 클릭 및 대기
-				post.click();
-				wait.until(ExpectedConditions.numberOfWindowsToBe(2));
+		// 1. 목록 페이지에서 공고 링크를 한 번에 수집
+		List<String> links = driver.findElements(By.cssSelector("tr[data-index] strong a")).stream()
+			.map(post -> post.getDomProperty("href"))
+			.filter(Objects::nonNull)
+			.distinct()
+			.toList();
+		log.info("{}페이지에서 총 {}개의 공고 발견", currentPage, links.size());
 
-				// 해당 공고 창 추출
-				Optional<String> postWindow = driver.getWindowHandles().stream()
-					.filter(handle -> !handle.equals(originalWindow))
-					.findFirst();
+		// 2. 공고 처리
+		int consecutiveSeenCount = 0;
+		for (String link : links) {
 
-				if (postWindow.isEmpty()) {
-					log.error("새 창을 찾지 못하였습니다.");
-					continue;
+			// 이미 발행되었거나 제외된 공고는 상세 페이지를 열지 않음
+			if (isSeen(crawlerDataExtractor.extractPostId(link))) {
+				consecutiveSeenCount++;
+				if (consecutiveSeenCount >= seenStopThreshold) {
+					log.info("이미 처리된 공고가 연속 {}개 발견되어 페이징을 중단합니다.", consecutiveSeenCount);
+					return true;
 				}
+				continue;
+			}
+			consecutiveSeenCount = 0;
 
-				// 창 전환 및 추출
-				try {
-					driver.switchTo().window(newWindow);
-					wait.until(ExpectedConditions.not(
-						ExpectedConditions.urlToBe("about:blank")
-					));
-					processETL(wait);
-				} catch (Exception exception) {
-					log.error("상세 페이지 처리 중 오류 발생: {}", exception.getMessage());
-				} finally {
-					driver.close();
-					driver.switchTo().window(originalWindow);
-				}
+			// HTTP 요청만으로 처리 가능한 경우 브라우저를 사용하지 않음
+			if (httpFastPathEnabled && processByHttp(pipeline, link)) {
+				continue;
+			}
+
+			// 새 창을 열지 않고, 현재 탭에서 url로 직접 이동하여 추출
+			try {
+				driver.get(link);
+				processETL(driver, wait, pipeline);
+			} catch (InterruptedException exception) {
+				throw exception;
+			} catch (Exception exception) {
+				log.error("상세 페이지 처리 중 오류 발생: {}", exception.getMessage());
 			}
 		}
+		return false;
 	}
 
 	/**
-	 * 채용 공고에 대한 데이터 추출, 변환, 적재 작업을 수행하는 메서드입니다.
+	 * 채용 공고에 대한 데이터를 추출하여, 변환 및 적재를 위한 파이프라인에 전달하는 메서드입니다.
 	 */
-	private void processETL(WebDriverWait wait) {
+	private void processETL(WebDriver driver, WebDriverWait wait, RecruitmentPipeline pipeline)
+		throws InterruptedException {
 
 		// 1. 채용 공고 상세 페이지 url 유효성 검사
 		String link = crawlerDataExtractor.extractCurrentUrl(wait);
@@ -150,72 +248,157 @@ public class CrawlerService {
 			return;
 		}
 
-		// 2. 제목 유효성 검사
+		// 2. 이미 발행된 공고 제외
+		String postId = crawlerDataExtractor.extractPostId(wait);
+		if (isSeen(postId)) {
+			log.info("이미 발행된 채용 공고: {}", postId);
+			return;
+		}
+
+		// 3. 상세 페이지 데이터 추출 (제목 유효성 검사 포함)
+		Optional<CrawledRecruitment> crawled = snapshotEnabled
+			? crawlFromSnapshot(driver, link)
+			: crawlFromDriver(wait, link);
+		if (crawled.isEmpty()) {
+			return;
+		}
+
+		// 4. 변환 및 적재는 파이프라인에서 비동기로 처리
+		pipeline.submit(crawled.get());
+	}
+
+	/**
+	 * Selenium 없이 HTTP 요청으로 얻은 상세 페이지로 ETL 작업을 수행합니다.
+	 * 서버 렌더링 HTML로 추출이 불가능한 경우 false를 반환하여 Selenium으로 처리되도록 합니다.
+	 */
+	private boolean processByHttp(RecruitmentPipeline pipeline, String link) throws InterruptedException {
+		if (!crawlerValidator.isValidDetailUrl(link)) {
+			return false;
+		}
+
+		// 1. 상세 페이지 요청
+		Optional<Document> document = crawlerDetailFetcher.fetchDetailPage(crawlerDataExtractor.extractPostId(link));
+		if (document.isEmpty()) {
+			return false;
+		}
+
+		// 2. 데이터 추출, 선택자가 맞지 않는 경우 Selenium으로 대체
+		Optional<CrawledRecruitment> crawled;
+		try {
+			crawled = crawlFromDocument(document.get(), link);
+		} catch (RuntimeException exception) {
+			log.info("HTTP 추출 실패로 Selenium으로 대체합니다: {} - {}", link, exception.getMessage());
+			return false;
+		}
+
+		// 3. 변환 및 적재는 파이프라인에서 비동기로 처리
+		if (crawled.isPresent()) {
+			pipeline.submit(crawled.get());
+		}
+		return true;
+	}
+
+	/**
+	 * 이미 발행되었거나 제외된 채용 공고인지 확인합니다.
+	 * Redis 조회에 실패한 경우, 공고를 놓치지 않도록 발행되지 않은 것으로 간주합니다.
+	 */
+	private boolean isSeen(String postId) {
+		if (postId.isBlank()) {
+			return false;
+		}
+		try {
+			return seenRecruitmentRepository.exists(postId);
+		} catch (Exception exception) {
+			log.warn("발행 이력 조회 실패: {} - {}", postId, exception.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * 제목 검사로 제외한 공고를 처리 이력에 기록합니다.
+	 * 다음 크롤링에서 상세 페이지를 다시 열지 않고, 이미 처리된 공고의 연속 개수에 포함되도록 합니다.
+	 */
+	private void markSkipped(String postId) {
+		if (postId.isBlank()) {
+			return;
+		}
+		try {
+			seenRecruitmentRepository.save(postId);
+		} catch (Exception exception) {
+			log.warn("제외 공고 이력 저장 실패: {} - {}", postId, exception.getMessage());
+		}
+	}
+
+	/**
+	 * 보관 기간이 지난 발행 이력을 삭제합니다.
+	 */
+	private void cleanUpSeenRecruitments() {
+		try {
+			long removed = seenRecruitmentRepository.deleteOlderThan(Duration.ofDays(seenRetentionDays));
+			log.info("보관 기간이 지난 발행 이력 {}건 삭제", removed);
+		} catch (Exception exception) {
+			log.warn("발행 이력 정리 실패: {}", exception.getMessage());
+		}
+	}
+
+	/**
+	 * 상세 페이지를 한 번에 스냅샷한 후, WebDriver 호출 없이 Jsoup으로 데이터를 추출합니다.
+	 */
+	private Optional<CrawledRecruitment> crawlFromSnapshot(WebDriver driver, String link) {
+		return crawlFromDocument(crawlerDataExtractor.captureDetailPage(driver), link);
+	}
+
+	/**
+	 * 상세 페이지 Document로부터 데이터를 추출합니다.
+	 */
+	private Optional<CrawledRecruitment> crawlFromDocument(Document document, String link) {
+		String title = crawlerDataExtractor.extractTitle(document);
+		if (crawlerValidator.isSkipTitle(title)) {
+			log.info("유효하지 않은 채용 공고 제목: {}", title);
+			markSkipped(crawlerDataExtractor.extractPostId(link));
+			return Optional.empty();
+		}
+
+		Company company = crawlerDataExtractor.extractCompany(document);
+		return Optional.of(CrawledRecruitment.builder()
+			.link(link)
+			.title(title)
+			.postId(crawlerDataExtractor.extractPostId(link))
+			.companyId(company.getCompanyId())
+			.companyName(crawlerDataExtractor.extractCompanyName(document))
+			.companyLogo(company.getCompanyLogo())
+			.companyInfo(crawlerDataExtractor.extractCompanyInfo(document))
+			.qualification(crawlerDataExtractor.extractQualification(document))
+			.timeInfo(crawlerDataExtractor.extractTimeInfo(document))
+			.outline(crawlerDataExtractor.extractOutline(document))
+			.recruitmentDetail(crawlerDataExtractor.extractRecruitmentDetail(document))
+			.build());
+	}
+
+	/**
+	 * WebDriver로 요소마다 대기하며 데이터를 추출합니다.
+	 */
+	private Optional<CrawledRecruitment> crawlFromDriver(WebDriverWait wait, String link) {
 		String title = crawlerDataExtractor.extractTitle(wait);
 		if (crawlerValidator.isSkipTitle(title)) {
 			log.info("유효하지 않은 채용 공고 제목: {}", title);
-			return;
+			markSkipped(crawlerDataExtractor.extractPostId(wait));
+			return Optional.empty();
 		}
 
-		// 3. 나머지 데이터 추출 및 DTO 작성
-		CrawledRecruitment crawledRecruitment = CrawledRecruitment.builder()
+		Company company = crawlerDataExtractor.extractCompany(wait);
+		return Optional.of(CrawledRecruitment.builder()
 			.link(link)
 			.title(title)
 			.postId(crawlerDataExtractor.extractPostId(wait))
+			.companyId(company.getCompanyId())
 			.companyName(crawlerDataExtractor.extractCompanyName(wait))
-			.companyLogo(crawlerDataExtractor.extractCompanyLogo(wait))
+			.companyLogo(company.getCompanyLogo())
 			.companyInfo(crawlerDataExtractor.extractCompanyInfo(wait))
 			.qualification(crawlerDataExtractor.extractQualification(wait))
 			.timeInfo(crawlerDataExtractor.extractTimeInfo(wait))
 			.outline(crawlerDataExtractor.extractOutline(wait))
 			.recruitmentDetail(crawlerDataExtractor.extractRecruitmentDetail(wait))
-			.build();
-
-		// 4. LLM 호출
-		String html = crawledRecruitment.toHtmlString();
-		LLMResponseDTO.Recruitment llmResult = llmClient.getRecruitment(html);
-		log.info("[LLM 채용 공고 결과] {}", llmResult);
-
-		// 5. KPI 임베딩
-		List<Recruitment.Position> positions = llmResult.getPositions().stream()
-			.map(llmPosition -> {
-				List<Recruitment.Position.KPI> kpis = llmPosition.getKpis().stream()
-					.map(kpi -> {
-						float[] embedding = embeddingClient.embed(kpi);
-						return Recruitment.Position.KPI.builder()
-							.kpi(kpi)
-							.embedding(embedding)
-							.build();
-					}).toList();
-				return Recruitment.Position.builder()
-					.name(llmPosition.getName())
-					.jobType(llmPosition.getJobType())
-					.employmentType(llmPosition.getEmploymentType())
-					.experienceType(llmPosition.getExperienceType())
-					.educationLevel(llmPosition.getEducationLevel())
-					.areaType(llmPosition.getAreaType())
-					.detailAddress(llmPosition.getDetailAddress())
-					.majorType(llmPosition.getMajorType())
-					.kpis(kpis)
-					.build();
-			}).toList();
-
-		// 6. DTO 생성
-		Recruitment recruitment = Recruitment.builder()
-			.link(llmResult.getLink())
-			.title(llmResult.getTitle())
-			.postId(llmResult.getPostId())
-			.companyName(llmResult.getCompanyName())
-			.companyLogo(llmResult.getCompanyLogo())
-			.companySize(llmResult.getCompanySize())
-			.industryType(llmResult.getIndustryType())
-			.startDate(llmResult.getStartDate())
-			.endDate(llmResult.getEndDate())
-			.positions(positions)
-			.summary(llmResult.getSummary())
-			.build();
-
-		// 7. 발행
-		redisStreamProducer.produceRecruitment(recruitmentStreamKey, recruitment);
+			.build());
 	}
-}
\ No newline at end of file
+}
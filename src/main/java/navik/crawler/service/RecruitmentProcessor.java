@@ -0,0 +1,194 @@
+package navik.crawler.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import navik.ai.client.EmbeddingClient;
+import navik.ai.client.LLMClient;
+import navik.ai.dto.LLMResponseDTO;
+import navik.cache.ContentHash;
+import navik.crawler.dto.CrawledRecruitment;
+import navik.crawler.dto.Recruitment;
+import navik.crawler.repository.RecruitmentContentRepository;
+import navik.crawler.repository.SeenRecruitmentRepository;
+import navik.redis.client.RedisStreamProducer;
+import navik.redis.monitor.StreamLagMonitor;
+
+/**
+ * 크롤링된 채용 공고의 변환(LLM, 임베딩)과 적재(스트림 발행)를 담당하는 클래스입니다.
+ * 각 메서드는 파이프라인의 한 단계에 대응됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecruitmentProcessor {
+
+	private final LLMClient llmClient;
+	private final EmbeddingClient embeddingClient;
+	private final RedisStreamProducer redisStreamProducer;
+	private final SeenRecruitmentRepository seenRecruitmentRepository;
+	private final RecruitmentContentRepository recruitmentContentRepository;
+	private final StreamLagMonitor streamLagMonitor;
+
+	private static final Pattern START_DATE_PATTERN = Pattern.compile("시작일\\s*(\\d{4})\\.(\\d{1,2})\\.(\\d{1,2})");
+	private static final Pattern END_DATE_PATTERN = Pattern.compile("마감일\\s*(\\d{4})\\.(\\d{1,2})\\.(\\d{1,2})");
+
+	@Value("${spring.data.redis.stream.keys.crawl}")
+	private String recruitmentStreamKey;
+
+	@Value("${crawler.seen.retention-days}")
+	private long contentRetentionDays;
+
+	/**
+	 * 본문이 같은 채용 공고가 이미 발행된 경우, 이전 결과를 재사용합니다.
+	 * 링크와 날짜만 새로 크롤링한 값으로 갱신하므로, LLM과 임베딩 호출을 모두 생략할 수 있습니다.
+	 */
+	public Optional<Recruitment> findUnchanged(CrawledRecruitment crawledRecruitment) {
+		String fingerprint = fingerprint(crawledRecruitment);
+		try {
+			return recruitmentContentRepository.find(fingerprint)
+				.map(previous -> refresh(previous, crawledRecruitment));
+		} catch (Exception exception) {
+			log.warn("본문 지문 조회 실패: {} - {}", crawledRecruitment.getPostId(), exception.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * LLM을 호출하여 채용 공고를 구조화합니다.
+	 */
+	public LLMResponseDTO.Recruitment extract(CrawledRecruitment crawledRecruitment) {
+		String html = crawledRecruitment.toHtmlString();
+		LLMResponseDTO.Recruitment llmResult = llmClient.getRecruitment(html);
+		log.info("[LLM 채용 공고 결과] {}", llmResult);
+		return llmResult;
+	}
+
+	/**
+	 * 포지션별 KPI를 임베딩하여 발행할 DTO를 생성합니다.
+	 * 회사 정보는 LLM 결과 대신 회사 레지스트리에서 얻은 값을 사용합니다.
+	 */
+	public Recruitment embed(CrawledRecruitment crawledRecruitment, LLMResponseDTO.Recruitment llmResult) {
+
+		// 1. 모든 포지션의 KPI를 한 번에 임베딩
+		List<String> allKpis = llmResult.getPositions().stream()
+			.flatMap(llmPosition -> llmPosition.getKpis().stream())
+			.toList();
+		Iterator<float[]> embeddings = embeddingClient.embedAll(allKpis).iterator();
+
+		// 2. 포지션별로 KPI와 벡터를 순서대로 매핑
+		List<Recruitment.Position> positions = llmResult.getPositions().stream()
+			.map(llmPosition -> {
+				List<Recruitment.Position.KPI> kpis = llmPosition.getKpis().stream()
+					.map(kpi -> Recruitment.Position.KPI.builder()
+						.kpi(kpi)
+						.embedding(embeddings.next())
+						.build()
+					).toList();
+				return Recruitment.Position.builder()
+					.name(llmPosition.getName())
+					.jobType(llmPosition.getJobType())
+					.employmentType(llmPosition.getEmploymentType())
+					.experienceType(llmPosition.getExperienceType())
+					.educationLevel(llmPosition.getEducationLevel())
+					.areaType(llmPosition.getAreaType())
+					.detailAddress(llmPosition.getDetailAddress())
+					.majorType(llmPosition.getMajorType())
+					.kpis(kpis)
+					.build();
+			}).toList();
+
+		// 3. DTO 생성
+		return Recruitment.builder()
+			.link(llmResult.getLink())
+			.title(llmResult.getTitle())
+			.postId(llmResult.getPostId())
+			.companyId(crawledRecruitment.getCompanyId())
+			.companyName(llmResult.getCompanyName())
+			.companyLogo(crawledRecruitment.getCompanyLogo())
+			.companySize(llmResult.getCompanySize())
+			.industryType(llmResult.getIndustryType())
+			.startDate(llmResult.getStartDate())
+			.endDate(llmResult.getEndDate())
+			.positions(positions)
+			.summary(llmResult.getSummary())
+			.build();
+	}
+
+	/**
+	 * 스트림에 발행하고, 발행에 성공한 공고는 발행 이력과 본문 지문에 저장합니다.
+	 * 컨슈머 지연으로 발행이 일시 정지된 경우, 재개될 때까지 대기합니다.
+	 */
+	public boolean publish(CrawledRecruitment crawledRecruitment, Recruitment recruitment)
+		throws InterruptedException {
+		streamLagMonitor.awaitResume();
+		boolean produced = redisStreamProducer.produceRecruitment(recruitmentStreamKey, recruitment);
+		if (!produced) {
+			return false;
+		}
+		String postId = crawledRecruitment.getPostId();
+		if (!postId.isBlank()) {
+			seenRecruitmentRepository.save(postId);
+		}
+		try {
+			recruitmentContentRepository.save(fingerprint(crawledRecruitment), recruitment,
+				Duration.ofDays(contentRetentionDays));
+		} catch (Exception exception) {
+			log.warn("본문 지문 저장 실패: {} - {}", postId, exception.getMessage());
+		}
+		return true;
+	}
+
+	private String fingerprint(CrawledRecruitment crawledRecruitment) {
+		return ContentHash.sha256Hex(crawledRecruitment.toContentString());
+	}
+
+	/**
+	 * 이전 결과에 새로 크롤링한 링크, postId, 회사 로고, 시작일과 마감일을 반영합니다.
+	 * 시간 정보에서 날짜를 찾지 못한 경우 이전 값을 유지합니다.
+	 */
+	private Recruitment refresh(Recruitment previous, CrawledRecruitment crawledRecruitment) {
+		String timeInfo = crawledRecruitment.getTimeInfo();
+		return previous.toBuilder()
+			.link(crawledRecruitment.getLink())
+			.postId(crawledRecruitment.getPostId())
+			.companyLogo(crawledRecruitment.getCompanyLogo())
+			.startDate(parseDate(START_DATE_PATTERN, timeInfo)
+				.map(LocalDate::atStartOfDay)
+				.orElse(previous.getStartDate()))
+			.endDate(parseDate(END_DATE_PATTERN, timeInfo)
+				.map(date -> date.atTime(LocalTime.of(23, 59, 59)))
+				.orElse(previous.getEndDate()))
+			.build();
+	}
+
+	/**
+	 * 시간 정보에서 날짜를 추출합니다.
+	 * 예시) 시작일 2026.01.05(월) 마감일 2026.02.04(수)
+	 */
+	private Optional<LocalDate> parseDate(Pattern pattern, String timeInfo) {
+		if (timeInfo == null) {
+			return Optional.empty();
+		}
+		Matcher matcher = pattern.matcher(timeInfo);
+		if (!matcher.find()) {
+			return Optional.empty();
+		}
+		return Optional.of(LocalDate.of(
+			Integer.parseInt(matcher.group(1)),
+			Integer.parseInt(matcher.group(2)),
+			Integer.parseInt(matcher.group(3))));
+	}
+}
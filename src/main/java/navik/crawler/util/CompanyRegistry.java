@@ -0,0 +1,105 @@
+package navik.crawler.util;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import navik.cache.LocalLruCache;
+import navik.crawler.dto.Company;
+import navik.crawler.repository.CompanyRepository;
+
+/**
+ * 회사 정보 레지스트리입니다.
+ * 로컬 LRU 캐시 -> Redis 순서로 조회하고, 모두 없는 경우에만 회사 페이지를 수집합니다.
+ * 같은 회사의 공고가 여러 개인 경우 회사 페이지 요청을 한 번으로 줄입니다.
+ */
+@Slf4j
+@Component
+public class CompanyRegistry {
+
+	private final CompanyRepository companyRepository;
+	private final LocalLruCache<String, Company> localCache;
+	private final Duration ttl;
+
+	public CompanyRegistry(
+		CompanyRepository companyRepository,
+		@Value("${crawler.company.cache-size}") int cacheSize,
+		@Value("${crawler.company.ttl-days}") long ttlDays
+	) {
+		this.companyRepository = companyRepository;
+		this.ttl = Duration.ofDays(ttlDays);
+		this.localCache = new LocalLruCache<>(cacheSize, ttl);
+	}
+
+	/**
+	 * 회사 상세 페이지 url에 해당하는 회사 정보를 반환합니다.
+	 * 레지스트리에 없는 경우 loader로 수집한 후 등록합니다.
+	 */
+	public Company getOrRegister(String companyUrl, Supplier<Company.CompanyBuilder> loader) {
+		String companyId = toCompanyId(companyUrl);
+
+		// 1. 로컬 캐시 조회
+		Company cached = localCache.get(companyId);
+		if (cached != null) {
+			return cached;
+		}
+
+		// 2. Redis 조회
+		Optional<Company> stored = findStored(companyId);
+		if (stored.isPresent()) {
+			localCache.put(companyId, stored.get());
+			return stored.get();
+		}
+
+		// 3. 회사 페이지 수집 후 등록
+		Company company = loader.get()
+			.companyId(companyId)
+			.companyUrl(companyUrl)
+			.build();
+		localCache.put(companyId, company);
+		save(company);
+		log.info("[CompanyRegistry] 회사 등록: {} ({}), 로컬 캐시 hit {} / miss {}",
+			company.getCompanyName(), companyId, localCache.getHitCount(), localCache.getMissCount());
+		return company;
+	}
+
+	/**
+	 * 회사 상세 페이지 url의 마지막 경로를 회사 식별자로 사용합니다.
+	 * 예시) https://www.jobkorea.co.kr/company/12345?tab=1 -> 12345
+	 */
+	public String toCompanyId(String companyUrl) {
+		String path = URI.create(companyUrl).getPath();
+		if (path == null || path.isBlank()) {
+			return companyUrl;
+		}
+		String[] segments = path.split("/");
+		for (int i = segments.length - 1; i >= 0; i--) {
+			if (!segments[i].isBlank()) {
+				return segments[i];
+			}
+		}
+		return companyUrl;
+	}
+
+	private Optional<Company> findStored(String companyId) {
+		try {
+			return companyRepository.find(companyId);
+		} catch (Exception exception) {
+			log.warn("[CompanyRegistry] 회사 정보 조회 실패: {} - {}", companyId, exception.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	private void save(Company company) {
+		try {
+			companyRepository.save(company, ttl);
+		} catch (Exception exception) {
+			log.warn("[CompanyRegistry] 회사 정보 저장 실패: {} - {}", company.getCompanyId(), exception.getMessage());
+		}
+	}
+}
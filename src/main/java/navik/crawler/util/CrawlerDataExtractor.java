@@ -2,25 +2,36 @@ package navik.crawler.util;
 
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
 import org.jsoup.safety.Safelist;
 import org.jsoup.select.Elements;
+import org.jsoup.select.NodeTraversor;
+import org.jsoup.select.NodeVisitor;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import navik.crawler.constants.JobKoreaConstant;
+import navik.crawler.dto.Company;
 import navik.crawler.factory.JsoupFactory;
+import navik.io.executor.BlockingIoExecutor;
 import navik.ocr.client.OCRClient;
 
 /**
@@ -36,6 +47,31 @@ public class CrawlerDataExtractor {
 	 */
 	private final OCRClient ocrClient;
 	private final JsoupFactory jsoupFactory;
+	private final PageReadinessWaiter pageReadinessWaiter;
+	private final CompanyRegistry companyRegistry;
+	private final BlockingIoExecutor blockingIoExecutor;
+
+	@Value("${crawler.ocr.per-posting-concurrency}")
+	private int ocrPerPostingConcurrency;
+
+	private static final String TITLE_SELECTOR = "h1[data-sentry-element='Typography']";
+	private static final String COMPANY_NAME_SELECTOR = "h2[data-sentry-element='Typography']";
+	private static final String COMPANY_MORE_SELECTOR = "a[data-sentry-component='MoreButton']";
+	private static final String QUALIFICATION_SELECTOR = "div[data-sentry-component='Qualification']";
+	private static final String QUALIFICATION_ITEM_SELECTOR = "div[data-sentry-component='QualificationItem']";
+	private static final String QUALIFICATION_KEY_SELECTOR = "span[style*='min-width:80px']";
+	private static final String CORP_INFORMATION_SELECTOR = "div[data-sentry-component='CorpInformation']";
+	private static final String CORP_INFORMATION_BOX_SELECTOR = "div[data-sentry-component='CorpInformationBox']";
+	private static final String CORP_INFORMATION_KEY_SELECTOR = "span[class*='Typography_variant_size13']";
+	private static final String CORP_INFORMATION_VALUE_SELECTOR = "div[class*='Typography_variant_size14']";
+	private static final String COUNTDOWN_SELECTOR = "span[data-sentry-component='Countdown']";
+	private static final String SIMPLE_TABLE_SELECTOR = "div[data-sentry-component='SimpleTable']";
+	private static final String OUTLINE_SELECTOR =
+		"div[data-sentry-element='Flex'][data-sentry-source-file='index.tsx'].Flex_display_flex__i0l0hl2.Flex_gap_space28__i0l0hl2a.Flex_direction_column__i0l0hl4";
+	private static final String DETAIL_IFRAME_SELECTOR = "#details-section iframe";
+	private static final List<String> REQUIRED_DETAIL_SELECTORS = List.of(
+		TITLE_SELECTOR, COMPANY_NAME_SELECTOR, COMPANY_MORE_SELECTOR, QUALIFICATION_SELECTOR,
+		CORP_INFORMATION_SELECTOR, SIMPLE_TABLE_SELECTOR, OUTLINE_SELECTOR, DETAIL_IFRAME_SELECTOR);
 
 	/**
 	 * 현재 화면의 URL를 추출합니다.
@@ -48,7 +84,13 @@ public class CrawlerDataExtractor {
 	 * 채용 공고의 고유 식별 번호를 추출합니다.
 	 */
 	public String extractPostId(WebDriverWait wait) {
-		String url = extractCurrentUrl(wait);
+		return extractPostId(extractCurrentUrl(wait));
+	}
+
+	/**
+	 * 채용 공고 url로부터 고유 식별 번호를 추출합니다.
+	 */
+	public String extractPostId(String url) {
 		String recruitmentDetailUrlPattern = JobKoreaConstant.RECRUITMENT_DETAIL_URL_PATTERN;
 		Matcher matcher = Pattern.compile(recruitmentDetailUrlPattern).matcher(url);
 		if (matcher.find()) {
@@ -62,7 +104,7 @@ public class CrawlerDataExtractor {
 	 */
 	public String extractTitle(WebDriverWait wait) {
 		WebElement titleElement = wait.until(ExpectedConditions.presenceOfElementLocated(
-			By.cssSelector("h1[data-sentry-element='Typography']")));
+			By.cssSelector(TITLE_SELECTOR)));
 		return titleElement.getText();
 	}
 
@@ -71,21 +113,22 @@ public class CrawlerDataExtractor {
 	 */
 	public String extractCompanyName(WebDriverWait wait) {
 		WebElement companyNameElement = wait.until(ExpectedConditions.presenceOfElementLocated(
-			By.cssSelector("h2[data-sentry-element='Typography']")));
+			By.cssSelector(COMPANY_NAME_SELECTOR)));
 		return companyNameElement.getText();
 	}
 
 	/**
-	 * 채용 공고의 회사 로고를 추출합니다.
-	 * '회사 내용 상세보기' 정적 페이지를 얻어 Jsoup으로 추출합니다.
+	 * 채용 공고의 회사 정보를 회사 레지스트리에서 조회합니다.
+	 * 레지스트리에 없는 회사인 경우에만 '회사 내용 상세보기' 페이지에서 로고를 추출합니다.
 	 */
-	public String extractCompanyLogo(WebDriverWait wait) {
+	public Company extractCompany(WebDriverWait wait) {
 		WebElement companyMoreElement = wait.until(ExpectedConditions.presenceOfElementLocated(
-			By.cssSelector("a[data-sentry-component='MoreButton']")));
+			By.cssSelector(COMPANY_MORE_SELECTOR)));
 		String companyUrl = companyMoreElement.getAttribute("href");
-		Document companyDocument = jsoupFactory.createDocument(companyUrl);
-		String companyLogo = companyDocument.selectFirst(".logo img").attr("src");
-		return applyHttpsPrefix(companyLogo);
+		return companyRegistry.getOrRegister(companyUrl, () -> Company.builder()
+			.companyName(extractCompanyName(wait))
+			.companyLogo(extractCompanyLogo(companyUrl))
+			.companyInfo(extractCompanyInfo(wait)));
 	}
 
 	/**
@@ -97,18 +140,18 @@ public class CrawlerDataExtractor {
 	public String extractQualification(WebDriverWait wait) {
 
 		WebElement qualificationElement = wait.until(ExpectedConditions.presenceOfElementLocated(
-			By.cssSelector("div[data-sentry-component='Qualification']")
+			By.cssSelector(QUALIFICATION_SELECTOR)
 		));
 
 		List<WebElement> items = qualificationElement.findElements(
-			By.cssSelector("div[data-sentry-component='QualificationItem']")
+			By.cssSelector(QUALIFICATION_ITEM_SELECTOR)
 		);
 
 		// 경력, 학력 2가지만 추출
 		StringBuilder result = new StringBuilder();
 		for (int i = 0; i < Math.min(items.size(), 2); i++) {
 			WebElement item = items.get(i);
-			WebElement keyElement = item.findElement(By.cssSelector("span[style*='min-width:80px']"));
+			WebElement keyElement = item.findElement(By.cssSelector(QUALIFICATION_KEY_SELECTOR));
 
 			String key = keyElement.getText();
 			String value = item.getText().replace(key, "").trim();
@@ -130,19 +173,19 @@ public class CrawlerDataExtractor {
 	public String extractCompanyInfo(WebDriverWait wait) {
 
 		WebElement companyInfoElement = wait.until(ExpectedConditions.presenceOfElementLocated(
-			By.cssSelector("div[data-sentry-component='CorpInformation']")
+			By.cssSelector(CORP_INFORMATION_SELECTOR)
 		));
 
 		List<WebElement> items = companyInfoElement.findElements(
-			By.cssSelector("div[data-sentry-component='CorpInformationBox']")
+			By.cssSelector(CORP_INFORMATION_BOX_SELECTOR)
 		);
 
 		// 사원수, 기업구분, 산업(업종), 위치 등 추출
 		StringBuilder result = new StringBuilder();
 
 		for (WebElement item : items) {
-			WebElement keyElement = item.findElement(By.cssSelector("span[class*='Typography_variant_size13']"));
-			WebElement valueElement = item.findElement(By.cssSelector("div[class*='Typography_variant_size14']"));
+			WebElement keyElement = item.findElement(By.cssSelector(CORP_INFORMATION_KEY_SELECTOR));
+			WebElement valueElement = item.findElement(By.cssSelector(CORP_INFORMATION_VALUE_SELECTOR));
 
 			String key = keyElement.getText().trim();
 			String value = valueElement.getText().trim();
@@ -162,14 +205,14 @@ public class CrawlerDataExtractor {
 		String countdownText = "알수없음";
 		try {
 			WebElement countdownElement = wait.until(ExpectedConditions.presenceOfElementLocated(
-				By.cssSelector("span[data-sentry-component='Countdown']")
+				By.cssSelector(COUNTDOWN_SELECTOR)
 			));
 			countdownText = countdownElement.getText();
 		} catch (Exception exception) {
 			log.info("남은 기간이 표시되지 않은 공고입니다.");
 		}
 		WebElement dateElement = wait.until(ExpectedConditions.presenceOfElementLocated(
-			By.cssSelector("div[data-sentry-component='SimpleTable']")
+			By.cssSelector(SIMPLE_TABLE_SELECTOR)
 		));
 		return "남은기간 " + countdownText + ", " + dateElement.getText();
 	}
@@ -179,8 +222,7 @@ public class CrawlerDataExtractor {
 	 */
 	public String extractOutline(WebDriverWait wait) {
 		WebElement outlineElement = wait.until(ExpectedConditions.presenceOfElementLocated(
-			By.cssSelector(
-				"div[data-sentry-element='Flex'][data-sentry-source-file='index.tsx'].Flex_display_flex__i0l0hl2.Flex_gap_space28__i0l0hl2a.Flex_direction_column__i0l0hl4")
+			By.cssSelector(OUTLINE_SELECTOR)
 		));
 		return outlineElement.getText();
 	}
@@ -194,7 +236,11 @@ public class CrawlerDataExtractor {
 	 * 위 두 가지 경우의 수를 모두 처리합니다.
 	 */
 	public String extractRecruitmentDetail(WebDriverWait wait) {
-		String recruitmentDetailUrl = JobKoreaConstant.BASE_URL + extractIframeUrl(wait);
+		return extractRecruitmentDetail(extractIframeUrl(wait));
+	}
+
+	private String extractRecruitmentDetail(String iframeUrl) {
+		String recruitmentDetailUrl = JobKoreaConstant.BASE_URL + iframeUrl;
 		Document recruitmentDocument = jsoupFactory.createDocument(recruitmentDetailUrl);
 		return extractRecruitmentTable(recruitmentDocument)    // HTML Table 추출
 			+ "<OCR 결과>"
@@ -207,11 +253,185 @@ public class CrawlerDataExtractor {
 	 */
 	private String extractIframeUrl(WebDriverWait wait) {
 		WebElement detailIframe = wait.until(ExpectedConditions.presenceOfElementLocated(
-			By.cssSelector("#details-section iframe")
+			By.cssSelector(DETAIL_IFRAME_SELECTOR)
 		));
 		return detailIframe.getDomAttribute("src");
 	}
 
+	/**
+	 * 상세 페이지가 준비될 때까지 한 번만 대기한 후, 페이지 소스 전체를 Jsoup Document로 스냅샷합니다.
+	 * 이후 필드 추출은 WebDriver 호출 없이 스냅샷 위에서 수행됩니다.
+	 */
+	public Document captureDetailPage(WebDriver driver) {
+		pageReadinessWaiter.awaitDetailPage(driver, List.of(
+			By.cssSelector(TITLE_SELECTOR),
+			By.cssSelector(CORP_INFORMATION_SELECTOR),
+			By.cssSelector(SIMPLE_TABLE_SELECTOR),
+			By.cssSelector(DETAIL_IFRAME_SELECTOR)
+		));
+		return Jsoup.parse(driver.getPageSource(), driver.getCurrentUrl());
+	}
+
+	/**
+	 * 스냅샷에 필드 추출에 필요한 요소가 모두 포함되어 있는지 확인합니다.
+	 */
+	public boolean isCompleteDetailPage(Document document) {
+		return REQUIRED_DETAIL_SELECTORS.stream()
+			.allMatch(selector -> document.selectFirst(selector) != null);
+	}
+
+	/**
+	 * 스냅샷으로부터 채용 공고의 제목을 추출합니다.
+	 */
+	public String extractTitle(Document document) {
+		return visibleText(selectRequired(document, TITLE_SELECTOR));
+	}
+
+	/**
+	 * 스냅샷으로부터 채용 공고의 회사명을 추출합니다.
+	 */
+	public String extractCompanyName(Document document) {
+		return visibleText(selectRequired(document, COMPANY_NAME_SELECTOR));
+	}
+
+	/**
+	 * 스냅샷의 회사 상세 페이지 url로 회사 레지스트리를 조회합니다.
+	 */
+	public Company extractCompany(Document document) {
+		String companyUrl = selectRequired(document, COMPANY_MORE_SELECTOR).absUrl("href");
+		return companyRegistry.getOrRegister(companyUrl, () -> Company.builder()
+			.companyName(extractCompanyName(document))
+			.companyLogo(extractCompanyLogo(companyUrl))
+			.companyInfo(extractCompanyInfo(document)));
+	}
+
+	/**
+	 * '회사 내용 상세보기' 정적 페이지를 얻어 Jsoup으로 회사 로고를 추출합니다.
+	 */
+	private String extractCompanyLogo(String companyUrl) {
+		Document companyDocument = jsoupFactory.createDocument(companyUrl);
+		Element logoElement = companyDocument.selectFirst(".logo img");
+		if (logoElement == null) {
+			return null;
+		}
+		return applyHttpsPrefix(logoElement.attr("src"));
+	}
+
+	/**
+	 * 스냅샷으로부터 채용 공고의 자격 요건(경력, 학력)을 추출합니다.
+	 */
+	public String extractQualification(Document document) {
+		Elements items = selectRequired(document, QUALIFICATION_SELECTOR).select(QUALIFICATION_ITEM_SELECTOR);
+
+		// 경력, 학력 2가지만 추출
+		StringBuilder result = new StringBuilder();
+		for (int i = 0; i < Math.min(items.size(), 2); i++) {
+			Element item = items.get(i);
+			String key = visibleText(selectRequired(item, QUALIFICATION_KEY_SELECTOR));
+			String value = visibleText(item).replace(key, "").trim();
+
+			result.append(key).append(": ").append(value).append("\n");
+		}
+
+		return result.toString();
+	}
+
+	/**
+	 * 스냅샷으로부터 채용 공고의 회사 정보를 추출합니다.
+	 */
+	public String extractCompanyInfo(Document document) {
+		Elements items = selectRequired(document, CORP_INFORMATION_SELECTOR).select(CORP_INFORMATION_BOX_SELECTOR);
+
+		// 사원수, 기업구분, 산업(업종), 위치 등 추출
+		StringBuilder result = new StringBuilder();
+		for (Element item : items) {
+			String key = visibleText(selectRequired(item, CORP_INFORMATION_KEY_SELECTOR));
+			String value = visibleText(selectRequired(item, CORP_INFORMATION_VALUE_SELECTOR));
+
+			result.append(key).append(": ").append(value).append("\n");
+		}
+
+		return result.toString();
+	}
+
+	/**
+	 * 스냅샷으로부터 채용 공고의 시작 시간과 마감 시간을 추출합니다.
+	 */
+	public String extractTimeInfo(Document document) {
+		Element countdownElement = document.selectFirst(COUNTDOWN_SELECTOR);
+		String countdownText = "알수없음";
+		if (countdownElement != null) {
+			countdownText = visibleText(countdownElement);
+		} else {
+			log.info("남은 기간이 표시되지 않은 공고입니다.");
+		}
+		return "남은기간 " + countdownText + ", " + visibleText(selectRequired(document, SIMPLE_TABLE_SELECTOR));
+	}
+
+	/**
+	 * 스냅샷으로부터 채용 공고의 모집 요강을 추출합니다.
+	 */
+	public String extractOutline(Document document) {
+		return visibleText(selectRequired(document, OUTLINE_SELECTOR));
+	}
+
+	/**
+	 * 스냅샷의 iframe url로부터 채용 공고 상세 내용을 추출합니다.
+	 */
+	public String extractRecruitmentDetail(Document document) {
+		return extractRecruitmentDetail(selectRequired(document, DETAIL_IFRAME_SELECTOR).attr("src"));
+	}
+
+	/**
+	 * Selenium의 getText()처럼 줄바꿈을 유지하여 요소의 텍스트를 추출합니다.
+	 * Jsoup의 text()는 줄바꿈까지 공백 하나로 합치므로, 스냅샷과 HTTP 경로에서도 브라우저 경로와 같은 텍스트가 되도록
+	 * <br>과 블록 요소는 줄바꿈으로, 표의 칸은 공백으로 구분하고 각 줄의 공백을 정리합니다.
+	 */
+	private String visibleText(Element element) {
+		StringBuilder text = new StringBuilder();
+		NodeTraversor.traverse(new NodeVisitor() {
+			@Override
+			public void head(Node node, int depth) {
+				if (node instanceof TextNode textNode) {
+					text.append(textNode.text());
+				} else if (node instanceof Element child && depth > 0) {
+					text.append(separatorOf(child));
+				}
+			}
+
+			@Override
+			public void tail(Node node, int depth) {
+				if (node instanceof Element child && depth > 0 && !child.normalName().equals("br")) {
+					text.append(separatorOf(child));
+				}
+			}
+		}, element);
+
+		return text.toString()
+			.lines()
+			.map(line -> line.replaceAll("[\\s\\u00A0]+", " ").strip())
+			.filter(line -> !line.isEmpty())
+			.collect(Collectors.joining("\n"));
+	}
+
+	private String separatorOf(Element element) {
+		if (element.normalName().equals("td") || element.normalName().equals("th")) {
+			return " ";
+		}
+		return element.normalName().equals("br") || element.isBlock() ? "\n" : "";
+	}
+
+	/**
+	 * 스냅샷에서 필수 요소를 조회하고, 없는 경우 예외를 던집니다.
+	 */
+	private Element selectRequired(Element root, String cssSelector) {
+		Element element = root.selectFirst(cssSelector);
+		if (element == null) {
+			throw new IllegalStateException("요소를 찾을 수 없습니다: " + cssSelector);
+		}
+		return element;
+	}
+
 	/**
 	 * 공고 페이지의 모집 정보를 HTML Table 태그로 추출합니다.
 	 */
@@ -249,19 +469,54 @@ public class CrawlerDataExtractor {
 			imageSet.add(imgUrl);
 		}
 
-		// 2. 필터링된 이미지들에 대해 OCR 호출
+		// 2. 필터링된 이미지들에 대해 OCR 동시 호출
+		//    공고 단위 제한으로 한 공고가 OCR 요청을 독점하지 않도록 하고, 전체 제한은 NAVER_OCR 제한을 따름
+		Semaphore postingPermits = new Semaphore(Math.max(1, ocrPerPostingConcurrency));
+		List<CompletableFuture<String>> futures = imageSet.stream()
+			.map(imgUrl -> blockingIoExecutor.submit(() -> extractImageText(imgUrl, postingPermits)))
+			.toList();
+
+		// 3. 원래 이미지 순서대로 결과 병합
 		StringBuilder result = new StringBuilder();
-		for (String imgUrl : imageSet) {
-			String imageText = ocrClient.extractFromImageUrl(imgUrl);
+		for (CompletableFuture<String> future : futures) {
+			String imageText = joinImageText(future);
 			if (!imageText.isBlank()) {
 				result.append(imageText).append("\n\n");
 			}
 		}
 
-		// 3. 결과 반환
+		// 4. 결과 반환
 		return result.toString();
 	}
 
+	private String extractImageText(String imgUrl, Semaphore postingPermits) {
+		try {
+			postingPermits.acquire();
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("OCR 요청 대기 중 중단되었습니다.", exception);
+		}
+		try {
+			return ocrClient.extractFromImageUrl(imgUrl);
+		} finally {
+			postingPermits.release();
+		}
+	}
+
+	/**
+	 * OCR 실패 시 순차 처리와 동일하게 원래 예외를 전달합니다.
+	 */
+	private String joinImageText(CompletableFuture<String> future) {
+		try {
+			return future.join();
+		} catch (CompletionException exception) {
+			if (exception.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw exception;
+		}
+	}
+
 	/**
 	 * 이미지 url에 'https:'가 누락된 경우, 추가합니다.
 	 */
@@ -0,0 +1,43 @@
+package navik.crawler.util;
+
+import java.util.Optional;
+
+import org.jsoup.nodes.Document;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import navik.crawler.constants.JobKoreaConstant;
+import navik.crawler.factory.JsoupFactory;
+
+/**
+ * Selenium 없이 HTTP 요청만으로 채용 공고 상세 페이지를 가져오는 클래스입니다.
+ * 서버 렌더링된 HTML에 필요한 요소가 모두 있는 경우에만 사용되며, 그렇지 않으면 Selenium으로 대체됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrawlerDetailFetcher {
+
+	private final JsoupFactory jsoupFactory;
+	private final CrawlerDataExtractor crawlerDataExtractor;
+
+	/**
+	 * postId로 상세 페이지를 요청합니다.
+	 * 요청에 실패하거나 필수 요소가 누락된 경우 빈 값을 반환합니다.
+	 */
+	public Optional<Document> fetchDetailPage(String postId) {
+		String url = JobKoreaConstant.RECRUITMENT_DETAIL_URL + postId;
+		try {
+			Document document = jsoupFactory.createDocument(url);
+			if (!crawlerDataExtractor.isCompleteDetailPage(document)) {
+				log.info("[CrawlerDetailFetcher] 서버 렌더링 HTML에 필수 요소가 없습니다: {}", url);
+				return Optional.empty();
+			}
+			return Optional.of(document);
+		} catch (Exception exception) {
+			log.warn("[CrawlerDetailFetcher] 상세 페이지 요청 실패: {} - {}", url, exception.getMessage());
+			return Optional.empty();
+		}
+	}
+}
@@ -1,19 +1,95 @@
 package navik.crawler.util;
 
+import java.util.List;
+
 import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import lombok.RequiredArgsConstructor;
+import navik.crawler.constants.JobKoreaConstant;
 import navik.crawler.enums.JobCode;
 
 /**
  * 크롤러의 검색 작업을 담당하는 클래스입니다.
  */
 @Component
+@RequiredArgsConstructor
 public class CrawlerSearchHelper {
 
+	private final PageReadinessWaiter pageReadinessWaiter;
+
+	/**
+	 * 직무, 정렬, 페이지 크기, 페이지 번호가 적용된 공고 목록 url을 생성합니다.
+	 * 필터 UI를 거치지 않고 바로 해당 페이지로 이동할 수 있습니다.
+	 */
+	public String buildListUrl(JobCode jobCode, int page) {
+		return UriComponentsBuilder.fromUriString(JobKoreaConstant.RECRUITMENT_LIST_URL)
+			.queryParam(JobKoreaConstant.LIST_PARAM_DUTY_CATEGORY, jobCode.getJobCode())
+			.queryParam(JobKoreaConstant.LIST_PARAM_DUTY, jobCode.getDetailCode())
+			.queryParam(JobKoreaConstant.LIST_PARAM_ORDER, JobKoreaConstant.LIST_ORDER_LATEST)
+			.queryParam(JobKoreaConstant.LIST_PARAM_PAGE_SIZE, JobKoreaConstant.LIST_PAGE_SIZE)
+			.queryParam(JobKoreaConstant.LIST_PARAM_PAGE, page)
+			.fragment(JobKoreaConstant.LIST_PAGE_ANCHOR_PREFIX + page)
+			.build()
+			.toUriString();
+	}
+
+	/**
+	 * 필터 UI로 검색한 결과 url에 페이지 앵커를 적용합니다.
+	 */
+	public String applyPageAnchor(String url, int page) {
+		return url.replaceAll("#.*$", "") + "#" + JobKoreaConstant.LIST_PAGE_ANCHOR_PREFIX + page;
+	}
+
+	/**
+	 * 현재 목록에 직무, 정렬, 페이지 크기 필터가 실제로 적용되었는지 확인합니다.
+	 * url 파라미터가 무시되거나 이름이 바뀌면 필터 없는 전체 목록이 표시되므로, 필터 UI의 상태로 검증합니다.
+	 */
+	public boolean isListFilterApplied(WebDriver driver, JobCode jobCode) {
+		boolean dutyChecked = driver.findElements(
+				By.id(JobKoreaConstant.LIST_DUTY_CHECKBOX_ID_PREFIX + jobCode.getDetailCode())).stream()
+			.findFirst()
+			.map(WebElement::isSelected)
+			.orElse(false);
+		return dutyChecked
+			&& JobKoreaConstant.LIST_ORDER_LATEST.equals(selectedValue(driver, JobKoreaConstant.LIST_ORDER_SELECT_ID))
+			&& String.valueOf(JobKoreaConstant.LIST_PAGE_SIZE)
+			.equals(selectedValue(driver, JobKoreaConstant.LIST_PAGE_SIZE_SELECT_ID));
+	}
+
+	/**
+	 * 필터 UI로 검색한 목록에서 page 페이지로 이동합니다.
+	 * 페이지 번호 링크를 클릭하고, 링크가 없는 먼 페이지는 앵커를 적용하여 새로고침합니다.
+	 * 앵커만 바꾸는 이동은 페이지를 다시 불러오지 않으므로 새로고침이 필요합니다.
+	 */
+	public void goToPage(WebDriver driver, int page) {
+		if (page <= 1) {
+			return;
+		}
+		By pageLink = By.cssSelector(JobKoreaConstant.LIST_PAGER_LINK_SELECTOR.formatted(page));
+		pageReadinessWaiter.awaitSearchResults(driver, () -> {
+			List<WebElement> links = driver.findElements(pageLink);
+			if (!links.isEmpty()) {
+				links.getFirst().click();
+				return;
+			}
+			driver.get(applyPageAnchor(driver.getCurrentUrl(), page));
+			driver.navigate().refresh();
+		});
+	}
+
+	private String selectedValue(WebDriver driver, String selectId) {
+		return driver.findElements(By.id(selectId)).stream()
+			.findFirst()
+			.map(select -> select.getDomProperty("value"))
+			.orElse(null);
+	}
+
 	/**
 	 * 검색 전 직무 필터를 적용하는 메서드입니다.
 	 */
@@ -32,15 +108,11 @@ public class CrawlerSearchHelper {
 
 	/**
 	 * 필터 적용 이후 검색을 실행하는 메서드입니다.
+	 * 검색 결과가 교체되고 네트워크 요청이 끝날 때까지만 대기합니다.
 	 */
-	public void search(WebDriverWait wait) {
+	public void search(WebDriver driver, WebDriverWait wait) {
 		WebElement searchButton = wait.until(ExpectedConditions.elementToBeClickable(By.id("dev-btn-search")));
-		searchButton.click();
-		try {
-			Thread.sleep(5000); // 검색 결과 대기를 위한 sleep
-		} catch (InterruptedException e) {
-			throw new RuntimeException(e);
-		}
+		pageReadinessWaiter.awaitSearchResults(driver, searchButton::click);
 	}
 
 	/**
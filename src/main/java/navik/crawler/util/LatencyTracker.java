@@ -0,0 +1,65 @@
+package navik.crawler.util;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 최근 관측된 지연 시간을 기록하고, p95 기반으로 대기 시간을 계산하는 클래스입니다.
+ * 여러 크롤링 스레드에서 공유되므로 동기화됩니다.
+ */
+public class LatencyTracker {
+
+	private static final int WINDOW_SIZE = 100;    // 최근 100개 샘플만 유지
+	private static final int MIN_SAMPLES = 5;      // 샘플이 적을 때는 초기 대기 시간 사용
+
+	private final long[] samples = new long[WINDOW_SIZE];
+	private final Duration initialTimeout;
+	private int count = 0;
+	private int next = 0;
+	private long timeouts = 0;
+
+	public LatencyTracker(Duration initialTimeout) {
+		this.initialTimeout = initialTimeout;
+	}
+
+	public synchronized void record(Duration latency) {
+		samples[next] = latency.toMillis();
+		next = (next + 1) % WINDOW_SIZE;
+		count = Math.min(count + 1, WINDOW_SIZE);
+	}
+
+	/**
+	 * 시간 초과는 실제 지연 시간을 알 수 없으므로 샘플에 넣지 않고 따로 셉니다.
+	 * 대기 시간 전체를 샘플로 넣으면 p95가 대기 시간을 따라 계속 커지기 때문입니다.
+	 */
+	public synchronized void recordTimeout() {
+		timeouts++;
+	}
+
+	public synchronized long getTimeouts() {
+		return timeouts;
+	}
+
+	public synchronized Duration percentile(double percentile) {
+		if (count == 0) {
+			return Duration.ZERO;
+		}
+		long[] sorted = Arrays.copyOf(samples, count);
+		Arrays.sort(sorted);
+		int index = (int)Math.ceil(percentile * count) - 1;
+		return Duration.ofMillis(sorted[Math.max(0, Math.min(index, count - 1))]);
+	}
+
+	/**
+	 * p95 지연 시간에 여유 배수를 곱한 값을 최소, 최대 범위 안으로 제한하여 반환합니다.
+	 */
+	public Duration adaptiveTimeout(double multiplier, Duration min, Duration max) {
+		synchronized (this) {
+			if (count < MIN_SAMPLES) {
+				return initialTimeout;
+			}
+		}
+		long timeoutMillis = (long)(percentile(0.95).toMillis() * multiplier);
+		return Duration.ofMillis(Math.max(min.toMillis(), Math.min(timeoutMillis, max.toMillis())));
+	}
+}
@@ -0,0 +1,163 @@
+package navik.crawler.util;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import navik.crawler.constants.CrawlerConstant;
+import navik.crawler.enums.ReadinessSignal;
+
+/**
+ * 고정된 sleep 대신 구체적인 신호로 페이지 준비 완료를 판단하는 클래스입니다.
+ * 	 1. 검색 결과 개수 변경 또는 첫 번째 공고 행의 교체
+ * 	 2. 네트워크 요청 종료 (리소스 요청 수가 일정 시간 변하지 않음)
+ * 신호별 대기 시간은 최근 관측된 p95 지연 시간에 맞춰 조정됩니다.
+ */
+@Slf4j
+@Component
+public class PageReadinessWaiter {
+
+	private static final By FIRST_ROW = By.cssSelector("tr[data-index='0']");
+	private static final By RESULT_COUNT = By.cssSelector("#anchorGICnt_1");
+	private static final Duration POLLING_INTERVAL = Duration.ofMillis(100);
+	private static final int RESOURCE_BUFFER_SIZE = 10000;    // 기본 250개에서 가득 차면 리소스 수가 멈춰 idle로 오판됨
+	private static final String RESOURCE_COUNT_SCRIPT =
+		"performance.setResourceTimingBufferSize(" + RESOURCE_BUFFER_SIZE + ");"
+			+ "return document.readyState === 'complete' ? performance.getEntriesByType('resource').length : -1;";
+
+	private final Map<ReadinessSignal, LatencyTracker> trackers = new EnumMap<>(ReadinessSignal.class);
+
+	public PageReadinessWaiter() {
+		for (ReadinessSignal signal : ReadinessSignal.values()) {
+			trackers.put(signal, new LatencyTracker(CrawlerConstant.CLICK_WAIT_TIME));
+		}
+	}
+
+	/**
+	 * trigger(검색 클릭 등)를 실행한 후, 검색 결과가 교체되고 네트워크가 잠잠해질 때까지 대기합니다.
+	 * 결과가 바뀌지 않는 검색일 수 있으므로, 시간 초과 시 경고만 남기고 진행합니다.
+	 */
+	public void awaitSearchResults(WebDriver driver, Runnable trigger) {
+		WebElement previousFirstRow = driver.findElements(FIRST_ROW).stream().findFirst().orElse(null);
+		String previousCount = readResultCount(driver);
+
+		trigger.run();
+
+		try {
+			await(driver, ReadinessSignal.SEARCH_RESULTS, currentDriver -> {
+				boolean rowReplaced = previousFirstRow == null
+					|| ExpectedConditions.stalenessOf(previousFirstRow).apply(currentDriver);
+				boolean countChanged = !Objects.equals(previousCount, readResultCount(currentDriver));
+				return (rowReplaced || countChanged) && !currentDriver.findElements(FIRST_ROW).isEmpty();
+			});
+			awaitNetworkIdle(driver);
+		} catch (TimeoutException exception) {
+			log.warn("[PageReadinessWaiter] 검색 결과 교체 신호를 받지 못했습니다: {}", exception.getMessage());
+		}
+	}
+
+	/**
+	 * 공고 목록이 표시되고 네트워크가 잠잠해질 때까지 대기합니다.
+	 * 목록이 표시되지 않으면 예외가 발생하며, 네트워크 대기는 시간 초과 시 경고만 남기고 진행합니다.
+	 */
+	public void awaitListPage(WebDriver driver) {
+		await(driver, ReadinessSignal.LIST_PAGE, ExpectedConditions.presenceOfElementLocated(FIRST_ROW));
+		try {
+			awaitNetworkIdle(driver);
+		} catch (TimeoutException exception) {
+			log.warn("[PageReadinessWaiter] 목록은 표시되었으나 네트워크가 잠잠해지지 않았습니다: {}", exception.getMessage());
+		}
+	}
+
+	/**
+	 * 상세 페이지의 필수 요소가 모두 나타날 때까지 대기합니다.
+	 */
+	public void awaitDetailPage(WebDriver driver, List<By> requiredElements) {
+		ExpectedCondition<?>[] conditions = requiredElements.stream()
+			.map(ExpectedConditions::presenceOfElementLocated)
+			.toArray(ExpectedCondition<?>[]::new);
+		await(driver, ReadinessSignal.DETAIL_PAGE, ExpectedConditions.and(conditions));
+	}
+
+	/**
+	 * 리소스 요청 수가 일정 시간 동안 변하지 않을 때까지 대기합니다.
+	 */
+	public void awaitNetworkIdle(WebDriver driver) {
+		await(driver, ReadinessSignal.NETWORK_IDLE, new NetworkIdleCondition());
+	}
+
+	/**
+	 * 신호별로 조정된 대기 시간을 반환합니다.
+	 */
+	public Duration timeoutOf(ReadinessSignal signal) {
+		return trackers.get(signal).adaptiveTimeout(
+			CrawlerConstant.READINESS_TIMEOUT_MULTIPLIER,
+			CrawlerConstant.READINESS_MIN_TIMEOUT,
+			CrawlerConstant.READINESS_MAX_TIMEOUT);
+	}
+
+	/**
+	 * 조정된 대기 시간으로 조건을 기다리고, 걸린 시간을 기록합니다.
+	 * 시간 초과는 샘플과 별도로 기록하여, 몇 번의 시간 초과로 대기 시간이 최대치까지 늘어나지 않도록 합니다.
+	 */
+	private <T> T await(WebDriver driver, ReadinessSignal signal, ExpectedCondition<T> condition) {
+		Duration timeout = timeoutOf(signal);
+		WebDriverWait wait = new WebDriverWait(driver, timeout);
+		wait.pollingEvery(POLLING_INTERVAL);
+
+		long start = System.nanoTime();
+		try {
+			T result = wait.until(condition);
+			trackers.get(signal).record(Duration.ofNanos(System.nanoTime() - start));
+			return result;
+		} catch (TimeoutException exception) {
+			LatencyTracker tracker = trackers.get(signal);
+			tracker.recordTimeout();
+			log.debug("[PageReadinessWaiter] {} 시간 초과 ({}ms, 누적 {}회)", signal, timeout.toMillis(), tracker.getTimeouts());
+			throw exception;
+		}
+	}
+
+	private String readResultCount(WebDriver driver) {
+		return driver.findElements(RESULT_COUNT).stream()
+			.findFirst()
+			.map(WebElement::getText)
+			.orElse(null);
+	}
+
+	/**
+	 * document 로딩이 끝나고, performance 리소스 항목 수가 NETWORK_IDLE_WINDOW 동안 변하지 않으면 idle로 판단합니다.
+	 */
+	private static class NetworkIdleCondition implements ExpectedCondition<Boolean> {
+
+		private long lastResourceCount = -1;
+		private long stableSince = System.nanoTime();
+
+		@Override
+		public Boolean apply(WebDriver driver) {
+			Object result = ((JavascriptExecutor)driver).executeScript(RESOURCE_COUNT_SCRIPT);
+			long resourceCount = result instanceof Number number ? number.longValue() : -1;
+			long now = System.nanoTime();
+
+			if (resourceCount < 0 || resourceCount != lastResourceCount) {
+				lastResourceCount = resourceCount;
+				stableSince = now;
+				return false;
+			}
+			return now - stableSince >= CrawlerConstant.NETWORK_IDLE_WINDOW.toNanos();
+		}
+	}
+}
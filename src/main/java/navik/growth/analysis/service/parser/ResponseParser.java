@@ -76,19 +76,26 @@ public class ResponseParser {
 	private static final int MAX_ABILITIES = 10;
 
 	private List<AnalysisResponse.GrowthAnalysisResponse.Ability> parseAbilities(JsonNode node) {
-		List<AnalysisResponse.GrowthAnalysisResponse.Ability> abilities = new ArrayList<>();
+		List<String> abilityContents = new ArrayList<>();
 		JsonNode abilitiesNode = node.get("abilities");
 
 		if (abilitiesNode != null && abilitiesNode.isArray()) {
 			for (JsonNode abilityNode : abilitiesNode) {
-				if (abilities.size() >= MAX_ABILITIES) {
+				if (abilityContents.size() >= MAX_ABILITIES) {
 					break;
 				}
-				String abilityContent = abilityNode.asText();
-				abilities.add(new AnalysisResponse.GrowthAnalysisResponse.Ability(abilityContent, embeddingClient.embed(abilityContent)));
+				abilityContents.add(abilityNode.asText());
 			}
 		}
 
+		// 역량 임베딩을 한 번에 요청한 후 순서대로 취합
+		List<float[]> embeddings = embeddingClient.embedAll(abilityContents);
+
+		List<AnalysisResponse.GrowthAnalysisResponse.Ability> abilities = new ArrayList<>();
+		for (int i = 0; i < abilityContents.size(); i++) {
+			abilities.add(new AnalysisResponse.GrowthAnalysisResponse.Ability(abilityContents.get(i), embeddings.get(i)));
+		}
+
 		return abilities;
 	}
 
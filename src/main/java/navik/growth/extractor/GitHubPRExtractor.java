@@ -4,17 +4,23 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import navik.growth.extractor.dto.GitHubPRRequestResponse.GitHubPR;
 import navik.growth.extractor.dto.GitHubPRRequestResponse.GitHubPRFile;
+import navik.io.enums.Downstream;
+import navik.io.executor.BlockingIoExecutor;
 
 /**
  * GitHub Public PR 정보를 추출하는 컴포넌트
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class GitHubPRExtractor {
 
+	private final BlockingIoExecutor blockingIoExecutor;
+
 	private final WebClient webClient = WebClient.builder()
 		.baseUrl("https://api.github.com")
 		.defaultHeader(HttpHeaders.ACCEPT, "application/vnd.github.v3+json")
@@ -37,22 +43,22 @@ public class GitHubPRExtractor {
 			PRInfo prInfo = parsePRUrl(url);
 
 			// 1. PR 기본 정보 조회
-			GitHubPR pr = webClient.get()
+			GitHubPR pr = blockingIoExecutor.call(Downstream.GITHUB, () -> webClient.get()
 				.uri("/repos/{owner}/{repo}/pulls/{number}", prInfo.owner(), prInfo.repo(), prInfo.number())
 				.retrieve()
 				.bodyToMono(GitHubPR.class)
-				.block();
+				.block());
 
 			if (pr == null) {
 				throw new IllegalStateException("GitHub PR을 가져오는데 실패했습니다.");
 			}
 
 			// 2. PR Files 조회 (변경된 파일 목록)
-			GitHubPRFile[] files = webClient.get()
+			GitHubPRFile[] files = blockingIoExecutor.call(Downstream.GITHUB, () -> webClient.get()
 				.uri("/repos/{owner}/{repo}/pulls/{number}/files", prInfo.owner(), prInfo.repo(), prInfo.number())
 				.retrieve()
 				.bodyToMono(GitHubPRFile[].class)
-				.block();
+				.block());
 
 			// 3. 마크다운 형식으로 변환
 			String markdown = buildMarkdown(pr, files);
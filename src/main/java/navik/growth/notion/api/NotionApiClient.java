@@ -13,6 +13,8 @@ import navik.growth.extractor.dto.NotionApiResponses.Block;
 import navik.growth.extractor.dto.NotionApiResponses.BlockList;
 import navik.growth.extractor.dto.NotionApiResponses.Page;
 import navik.growth.notion.exception.NotionApiException;
+import navik.io.enums.Downstream;
+import navik.io.executor.BlockingIoExecutor;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -23,16 +25,19 @@ public class NotionApiClient {
 
 	private final WebClient baseWebClient;
 	private final String apiVersion;
+	private final BlockingIoExecutor blockingIoExecutor;
 
 	public NotionApiClient(
 		@Qualifier("notionWebClient") WebClient baseWebClient,
-		@Value("${notion.api-version}") String apiVersion
+		@Value("${notion.api-version}") String apiVersion,
+		BlockingIoExecutor blockingIoExecutor
 	) {
 		this.baseWebClient = baseWebClient.mutate()
 			.baseUrl(NOTION_API_BASE_URL)
 			.defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
 			.build();
 		this.apiVersion = apiVersion;
+		this.blockingIoExecutor = blockingIoExecutor;
 	}
 
 	/**
@@ -41,19 +46,19 @@ public class NotionApiClient {
 	public Page getPage(String accessToken, String pageId) {
 		log.debug("Notion 페이지 조회: {}", pageId);
 
-		return buildClientWithAuth(accessToken)
-			.get()
-			.uri("/pages/{pageId}", pageId)
-			.retrieve()
-			.onStatus(HttpStatusCode::isError, response ->
-				response.bodyToMono(String.class)
-					.flatMap(body -> {
-						log.error("Notion API 오류: {} - {}", response.statusCode(), body);
-						return Mono.error(new NotionApiException(
-							"페이지 조회 실패: " + response.statusCode() + " - " + body));
-					}))
-			.bodyToMono(Page.class)
-			.block();
+		return blockingIoExecutor.call(Downstream.NOTION, () -> buildClientWithAuth(accessToken)
+				.get()
+				.uri("/pages/{pageId}", pageId)
+				.retrieve()
+				.onStatus(HttpStatusCode::isError, response ->
+					response.bodyToMono(String.class)
+						.flatMap(body -> {
+							log.error("Notion API 오류: {} - {}", response.statusCode(), body);
+							return Mono.error(new NotionApiException(
+								"페이지 조회 실패: " + response.statusCode() + " - " + body));
+						}))
+				.bodyToMono(Page.class)
+				.block());
 	}
 
 	/**
@@ -69,26 +74,26 @@ public class NotionApiClient {
 	public BlockList getBlockChildren(String accessToken, String blockId, String startCursor) {
 		log.debug("Notion 블록 조회: {} (cursor: {})", blockId, startCursor);
 
-		return buildClientWithAuth(accessToken)
-			.get()
-			.uri(uriBuilder -> {
-				uriBuilder.path("/blocks/{blockId}/children")
-					.queryParam("page_size", 100);
-				if (startCursor != null) {
-					uriBuilder.queryParam("start_cursor", startCursor);
-				}
-				return uriBuilder.build(blockId);
-			})
-			.retrieve()
-			.onStatus(HttpStatusCode::isError, response ->
-				response.bodyToMono(String.class)
-					.flatMap(body -> {
-						log.error("Notion API 오류: {} - {}", response.statusCode(), body);
-						return Mono.error(new NotionApiException(
-							"블록 조회 실패: " + response.statusCode() + " - " + body));
-					}))
-			.bodyToMono(BlockList.class)
-			.block();
+		return blockingIoExecutor.call(Downstream.NOTION, () -> buildClientWithAuth(accessToken)
+				.get()
+				.uri(uriBuilder -> {
+					uriBuilder.path("/blocks/{blockId}/children")
+						.queryParam("page_size", 100);
+					if (startCursor != null) {
+						uriBuilder.queryParam("start_cursor", startCursor);
+					}
+					return uriBuilder.build(blockId);
+				})
+				.retrieve()
+				.onStatus(HttpStatusCode::isError, response ->
+					response.bodyToMono(String.class)
+						.flatMap(body -> {
+							log.error("Notion API 오류: {} - {}", response.statusCode(), body);
+							return Mono.error(new NotionApiException(
+								"블록 조회 실패: " + response.statusCode() + " - " + body));
+						}))
+				.bodyToMono(BlockList.class)
+				.block());
 	}
 
 	/**
@@ -97,19 +102,19 @@ public class NotionApiClient {
 	public Block getBlock(String accessToken, String blockId) {
 		log.debug("Notion 블록 단일 조회: {}", blockId);
 
-		return buildClientWithAuth(accessToken)
-			.get()
-			.uri("/blocks/{blockId}", blockId)
-			.retrieve()
-			.onStatus(HttpStatusCode::isError, response ->
-				response.bodyToMono(String.class)
-					.flatMap(body -> {
-						log.error("Notion API 오류: {} - {}", response.statusCode(), body);
-						return Mono.error(new NotionApiException(
-							"블록 조회 실패: " + response.statusCode() + " - " + body));
-					}))
-			.bodyToMono(Block.class)
-			.block();
+		return blockingIoExecutor.call(Downstream.NOTION, () -> buildClientWithAuth(accessToken)
+				.get()
+				.uri("/blocks/{blockId}", blockId)
+				.retrieve()
+				.onStatus(HttpStatusCode::isError, response ->
+					response.bodyToMono(String.class)
+						.flatMap(body -> {
+							log.error("Notion API 오류: {} - {}", response.statusCode(), body);
+							return Mono.error(new NotionApiException(
+								"블록 조회 실패: " + response.statusCode() + " - " + body));
+						}))
+				.bodyToMono(Block.class)
+				.block());
 	}
 
 	/**
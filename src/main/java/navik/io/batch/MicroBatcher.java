@@ -0,0 +1,251 @@
+package navik.io.batch;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 스레드에서 동시에 들어온 요청을 모아 한 번에 전송하는 마이크로 배처입니다.
+ * 첫 요청 이후 최대 대기 시간이 지나거나 최대 개수가 모이면 sender로 전송하고, 요청과 같은 순서의 결과로 각 future를 완료합니다.
+ * 전송 중인 배치 수가 제한에 도달하면 다음 배치는 대기하며, 그 동안 들어온 요청은 다음 배치에 합쳐집니다.
+ * 결과가 없거나 전송에 실패한 요청은 실패로 완료하여, 어떤 경우에도 완료되지 않은 요청이 남지 않도록 합니다.
+ *
+ * @param <T> 요청
+ * @param <R> 요청별 결과
+ */
+@Slf4j
+public class MicroBatcher<T, R> {
+
+	private static final int STATS_LOG_INTERVAL = 100;    // 채움률 로그 주기 (배치 수)
+	private static final long POLL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);    // 종료 여부 확인 주기
+
+	private final String name;
+	private final int maxBatchSize;
+	private final Duration maxWait;
+	private final Semaphore inFlight;
+	private final Function<List<T>, CompletableFuture<List<R>>> sender;
+
+	private final BlockingQueue<Pending<T, R>> queue = new LinkedBlockingQueue<>();
+	private final List<Pending<T, R>> unsent = new ArrayList<>();    // 종료로 전송하지 못한 배치 (dispatcher에서만 기록)
+	private final Thread dispatcher;
+	private volatile boolean running = true;
+
+	private final AtomicLong batchCount = new AtomicLong();
+	private final AtomicLong itemCount = new AtomicLong();
+
+	/**
+	 * @param name 로그와 dispatcher 스레드 이름
+	 * @param sender 요청 목록을 전송하고, 같은 순서의 결과 목록으로 완료되는 future를 반환
+	 */
+	public MicroBatcher(String name, int maxBatchSize, Duration maxWait, int maxInFlight,
+		Function<List<T>, CompletableFuture<List<R>>> sender) {
+		this.name = name;
+		this.maxBatchSize = Math.max(1, maxBatchSize);
+		this.maxWait = maxWait;
+		this.inFlight = new Semaphore(Math.max(1, maxInFlight));
+		this.sender = sender;
+		this.dispatcher = Thread.ofVirtual().name(name).start(this::dispatchLoop);
+	}
+
+	/**
+	 * 요청을 다음 배치에 추가하고, 해당 요청의 결과로 완료되는 future를 반환합니다.
+	 * 전송 전에 완료(시간 초과, 취소)된 요청은 전송하지 않습니다.
+	 */
+	public CompletableFuture<R> enqueue(T item) {
+		CompletableFuture<R> future = new CompletableFuture<>();
+		if (!running) {
+			future.completeExceptionally(closed());
+			return future;
+		}
+		Pending<T, R> pending = new Pending<>(item, future);
+		queue.add(pending);
+
+		// 추가하는 사이 종료되어 남은 요청 정리가 끝났다면, 직접 제거하고 실패 처리
+		if (!running && queue.remove(pending)) {
+			future.completeExceptionally(closed());
+		}
+		return future;
+	}
+
+	/**
+	 * 지금까지 전송한 배치의 평균 채움률(배치 크기 / 최대 배치 크기)입니다.
+	 */
+	public double getFillRatio() {
+		long batches = batchCount.get();
+		return batches == 0 ? 0 : (double)itemCount.get() / (batches * maxBatchSize);
+	}
+
+	/**
+	 * 배처를 종료합니다.
+	 * dispatcher가 진행 중인 전송을 마치고 종료될 때까지 기다린 후 남은 요청을 처리하며, 비동기로 전송 중인 배치는 기다리지 않습니다.
+	 * flush가 true이면 남은 요청을 마지막으로 전송하고, false이면 실패로 완료합니다.
+	 */
+	public void shutdown(boolean flush) {
+		running = false;
+		List<Pending<T, R>> remaining = new ArrayList<>();
+		boolean joined = false;
+		try {
+			dispatcher.join();
+			remaining.addAll(unsent);
+			joined = true;
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			log.warn("[MicroBatcher] {} 종료 대기 중 중단되어 남은 요청을 실패 처리합니다.", name);
+		}
+		queue.drainTo(remaining);
+		remaining.removeIf(pending -> pending.future().isDone());
+		if (remaining.isEmpty()) {
+			return;
+		}
+
+		if (!flush || !joined) {
+			remaining.forEach(pending -> pending.future().completeExceptionally(closed()));
+			return;
+		}
+		log.info("[MicroBatcher] {} 종료 전 남은 요청 {}건 전송", name, remaining.size());
+		for (int from = 0; from < remaining.size(); from += maxBatchSize) {
+			dispatch(remaining.subList(from, Math.min(from + maxBatchSize, remaining.size()))).join();
+		}
+	}
+
+	/**
+	 * 요청을 모아 전송합니다.
+	 * 전송 중에 중단되지 않도록 interrupt 대신 POLL_INTERVAL마다 종료 여부를 확인하며,
+	 * 종료 시 모으는 중이던 요청은 shutdown에서 처리되도록 남겨둡니다.
+	 */
+	private void dispatchLoop() {
+		while (running) {
+			List<Pending<T, R>> batch = new ArrayList<>();
+			try {
+				collectBatch(batch);
+				if (batch.isEmpty()) {
+					continue;
+				}
+				if (!acquirePermit()) {
+					unsent.addAll(batch);
+					return;
+				}
+			} catch (InterruptedException exception) {
+				unsent.addAll(batch);
+				Thread.currentThread().interrupt();
+				return;
+			}
+
+			// 대기하는 사이 완료(시간 초과, 취소)된 요청은 제외
+			batch.removeIf(pending -> pending.future().isDone());
+			if (batch.isEmpty()) {
+				inFlight.release();
+				continue;
+			}
+			dispatch(batch).whenComplete((ignored, exception) -> inFlight.release());
+		}
+	}
+
+	/**
+	 * 첫 요청을 기다린 후, 최대 대기 시간 동안 최대 배치 크기까지 요청을 모읍니다.
+	 */
+	private void collectBatch(List<Pending<T, R>> batch) throws InterruptedException {
+		Pending<T, R> first = queue.poll(POLL_INTERVAL_NANOS, TimeUnit.NANOSECONDS);
+		if (first == null) {
+			return;
+		}
+		batch.add(first);
+
+		long deadline = System.nanoTime() + maxWait.toNanos();
+		while (batch.size() < maxBatchSize && running) {
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
+				queue.drainTo(batch, maxBatchSize - batch.size());
+				return;
+			}
+			Pending<T, R> next = queue.poll(Math.min(remaining, POLL_INTERVAL_NANOS), TimeUnit.NANOSECONDS);
+			if (next != null) {
+				batch.add(next);
+			}
+		}
+	}
+
+	/**
+	 * 전송 중인 배치 수 제한의 빈 자리를 기다립니다. 기다리는 중 종료되면 false를 반환합니다.
+	 */
+	private boolean acquirePermit() throws InterruptedException {
+		while (!inFlight.tryAcquire(POLL_INTERVAL_NANOS, TimeUnit.NANOSECONDS)) {
+			if (!running) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 배치를 전송하고, 모든 요청이 완료되면 완료되는 future를 반환합니다. (실패로 완료되지 않음)
+	 */
+	private CompletableFuture<Void> dispatch(List<Pending<T, R>> batch) {
+		List<T> items = batch.stream().map(Pending::item).toList();
+		CompletableFuture<List<R>> sent;
+		try {
+			sent = sender.apply(items);
+			if (sent == null) {
+				sent = CompletableFuture.failedFuture(new IllegalStateException(name + " 전송 결과가 없습니다."));
+			}
+		} catch (RuntimeException exception) {
+			sent = CompletableFuture.failedFuture(exception);
+		}
+		recordStats(batch.size());
+		return sent.handle((results, exception) -> {
+			complete(batch, results, exception);
+			return null;
+		});
+	}
+
+	/**
+	 * 결과 목록의 같은 위치의 결과로 각 요청을 완료합니다.
+	 * 전송에 실패하면 모든 요청을, 결과가 없는 위치의 요청은 해당 요청만 실패로 완료합니다.
+	 */
+	private void complete(List<Pending<T, R>> batch, List<R> results, Throwable exception) {
+		Throwable failure = exception instanceof CompletionException && exception.getCause() != null
+			? exception.getCause()
+			: exception;
+		if (failure != null) {
+			log.error("[MicroBatcher] {} 배치 전송 실패 {}건: {}", name, batch.size(), failure.getMessage());
+			batch.forEach(pending -> pending.future().completeExceptionally(failure));
+			return;
+		}
+
+		for (int i = 0; i < batch.size(); i++) {
+			R result = results != null && i < results.size() ? results.get(i) : null;
+			if (result == null) {
+				batch.get(i).future().completeExceptionally(new IllegalStateException(
+					name + " 배치 응답에 " + (i + 1) + "번째 요청의 결과가 없습니다."));
+			} else {
+				batch.get(i).future().complete(result);
+			}
+		}
+	}
+
+	private void recordStats(int size) {
+		long batches = batchCount.incrementAndGet();
+		itemCount.addAndGet(size);
+		log.debug("[MicroBatcher] {} 배치 전송 {}건 / 최대 {}건", name, size, maxBatchSize);
+		if (batches % STATS_LOG_INTERVAL == 0) {
+			log.info("[MicroBatcher] {} 배치 {}건, 평균 채움률 {}%", name, batches, Math.round(getFillRatio() * 100));
+		}
+	}
+
+	private IllegalStateException closed() {
+		return new IllegalStateException(name + " 배처가 종료되었습니다.");
+	}
+
+	private record Pending<T, R>(T item, CompletableFuture<R> future) {
+	}
+}
@@ -0,0 +1,24 @@
+package navik.io.config;
+
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import navik.io.enums.Downstream;
+
+/**
+ * 외부 시스템별 동시 요청 제한 설정
+ * 예시)
+ * 		io.default-limit: 16
+ * 		io.limits.naver-ocr: 4
+ */
+@ConfigurationProperties(prefix = "io")
+public record IoConcurrencyProperties(int defaultLimit, Map<Downstream, Integer> limits) {
+
+	public int limitOf(Downstream downstream) {
+		if (limits == null) {
+			return defaultLimit;
+		}
+		return limits.getOrDefault(downstream, defaultLimit);
+	}
+}
@@ -0,0 +1,14 @@
+package navik.io.enums;
+
+/**
+ * blocking I/O가 발생하는 외부 시스템입니다.
+ * 외부 시스템마다 동시 요청 수가 따로 제한됩니다.
+ */
+public enum Downstream {
+
+	JOBKOREA,    // 잡코리아 페이지, 이미지
+	NAVER_OCR,
+	OPENAI,      // Chat, Embedding
+	GITHUB,
+	NOTION
+}
@@ -0,0 +1,76 @@
+package navik.io.executor;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import navik.io.config.IoConcurrencyProperties;
+import navik.io.enums.Downstream;
+
+/**
+ * 외부 시스템 호출과 같은 blocking I/O를 가상 스레드에서 실행하는 공용 실행기입니다.
+ * 스레드 풀 크기 대신 외부 시스템별 동시 요청 수(Semaphore)로 부하를 제한합니다.
+ */
+@Slf4j
+@Component
+public class BlockingIoExecutor implements DisposableBean {
+
+	private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+		Thread.ofVirtual().name("blocking-io-", 0).factory());
+	private final Map<Downstream, Semaphore> permits = new EnumMap<>(Downstream.class);
+
+	public BlockingIoExecutor(IoConcurrencyProperties properties) {
+		for (Downstream downstream : Downstream.values()) {
+			int limit = Math.max(1, properties.limitOf(downstream));
+			permits.put(downstream, new Semaphore(limit, true));
+			log.info("[BlockingIoExecutor] {} 동시 요청 제한: {}", downstream, limit);
+		}
+	}
+
+	/**
+	 * 호출한 스레드에서 동시 요청 제한을 적용하여 작업을 실행합니다.
+	 * 제한에 도달한 경우 빈 자리가 생길 때까지 대기합니다.
+	 */
+	public <T> T call(Downstream downstream, Supplier<T> task) {
+		Semaphore semaphore = permits.get(downstream);
+		try {
+			semaphore.acquire();
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(downstream + " 요청 대기 중 중단되었습니다.", exception);
+		}
+		try {
+			return task.get();
+		} finally {
+			semaphore.release();
+		}
+	}
+
+	/**
+	 * 가상 스레드에서 동시 요청 제한을 적용하여 작업을 비동기로 실행합니다.
+	 */
+	public <T> CompletableFuture<T> submit(Downstream downstream, Supplier<T> task) {
+		return CompletableFuture.supplyAsync(() -> call(downstream, task), executor);
+	}
+
+	/**
+	 * 가상 스레드에서 작업을 비동기로 실행합니다.
+	 * 동시 요청 제한은 작업 내부의 call()에서 적용되는 경우에 사용합니다.
+	 */
+	public <T> CompletableFuture<T> submit(Supplier<T> task) {
+		return CompletableFuture.supplyAsync(task, executor);
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+}
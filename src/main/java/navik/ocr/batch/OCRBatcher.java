@@ -0,0 +1,168 @@
+package navik.ocr.batch;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import navik.io.batch.MicroBatcher;
+import navik.io.enums.Downstream;
+import navik.io.executor.BlockingIoExecutor;
+import navik.ocr.constant.NaverOCRConstant;
+import navik.ocr.dto.NaverOCRRequestDTO;
+import navik.ocr.dto.NaverOCRResponseDTO;
+
+/**
+ * 여러 스레드에서 동시에 들어온 OCR 요청을 모아 한 번의 Naver OCR 요청으로 보내는 마이크로 배처입니다.
+ * 이미지마다 고유한 name을 부여하고, 응답의 name으로 결과를 나누어 요청 순서대로 MicroBatcher에 전달합니다.
+ * 최대 배치 크기가 1이면 배치 없이 호출한 스레드에서 바로 요청합니다. (네이버 문서 기준 호출 당 1개의 이미지)
+ */
+@Component
+public class OCRBatcher implements DisposableBean {
+
+	private static final String IMAGE_NAME_PREFIX = "navik-image-";
+
+	private final WebClient webClient;
+	private final BlockingIoExecutor blockingIoExecutor;
+	private final String apiUrl;
+	private final String secretKey;
+	private final Duration timeout;
+	private final MicroBatcher<NaverOCRRequestDTO.Image, NaverOCRResponseDTO.Image> batcher;    // 배치 모드에서만 사용
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	public OCRBatcher(
+		@Qualifier("webClient") WebClient webClient,
+		BlockingIoExecutor blockingIoExecutor,
+		@Value("${naver.ocr.url}") String apiUrl,
+		@Value("${naver.ocr.secretKey}") String secretKey,
+		@Value("${naver.ocr.batch.max-size}") int maxBatchSize,
+		@Value("${naver.ocr.batch.max-wait-ms}") long maxWaitMillis,
+		@Value("${naver.ocr.batch.max-in-flight}") int maxInFlight,
+		@Value("${naver.ocr.batch.timeout-ms}") long timeoutMillis
+	) {
+		this.webClient = webClient;
+		this.blockingIoExecutor = blockingIoExecutor;
+		this.apiUrl = apiUrl;
+		this.secretKey = secretKey;
+		this.timeout = Duration.ofMillis(timeoutMillis);
+		this.batcher = maxBatchSize > 1
+			? new MicroBatcher<>("ocr-batcher", maxBatchSize, Duration.ofMillis(maxWaitMillis), maxInFlight,
+			this::sendBatch)
+			: null;
+	}
+
+	/**
+	 * 이미지를 OCR하고 해당 이미지의 결과를 반환합니다.
+	 * 배치 모드에서는 다음 배치에 추가된 후 전송될 때까지 최대 timeout 동안 대기합니다.
+	 */
+	public NaverOCRResponseDTO.Image request(NaverOCRRequestDTO.Image image) {
+		NaverOCRRequestDTO.Image named = image.toBuilder()
+			.name(IMAGE_NAME_PREFIX + sequence.incrementAndGet())
+			.build();
+
+		if (batcher == null) {
+			NaverOCRResponseDTO.Image result = blockingIoExecutor.call(Downstream.NAVER_OCR, () ->
+				send(List.of(named))).get(named.getName());
+			if (result == null) {
+				throw new IllegalStateException("OCR 응답에 이미지 결과가 없습니다: " + named.getName());
+			}
+			return result;
+		}
+
+		CompletableFuture<NaverOCRResponseDTO.Image> future = batcher.enqueue(named);
+		try {
+			return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (ExecutionException exception) {
+			if (exception.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException("OCR 요청에 실패하였습니다.", exception.getCause());
+		} catch (TimeoutException exception) {
+			future.cancel(false);    // 아직 전송되지 않았다면 배치에서 제외
+			throw new IllegalStateException("OCR 응답 대기 시간을 초과하였습니다: " + named.getName(), exception);
+		} catch (InterruptedException exception) {
+			future.cancel(false);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("OCR 응답 대기 중 중단되었습니다.", exception);
+		}
+	}
+
+	/**
+	 * 지금까지 전송한 배치의 평균 채움률(배치 크기 / 최대 배치 크기)입니다.
+	 */
+	public double getFillRatio() {
+		return batcher == null ? 0 : batcher.getFillRatio();
+	}
+
+	/**
+	 * 배치를 전송하고, 응답을 이미지 name으로 찾아 요청 순서대로 반환합니다.
+	 * 응답에 없는 이미지는 null로 두어 해당 요청만 실패로 완료되도록 합니다.
+	 */
+	private CompletableFuture<List<NaverOCRResponseDTO.Image>> sendBatch(List<NaverOCRRequestDTO.Image> images) {
+		return blockingIoExecutor.submit(Downstream.NAVER_OCR, () -> {
+			Map<String, NaverOCRResponseDTO.Image> results = send(images);
+			return images.stream().map(image -> results.get(image.getName())).toList();
+		});
+	}
+
+	/**
+	 * Naver OCR API를 호출하고, 이미지 name별로 결과를 나눕니다.
+	 */
+	private Map<String, NaverOCRResponseDTO.Image> send(List<NaverOCRRequestDTO.Image> images) {
+
+		// 1. 이미지 목록 포함, 최종 request body 생성
+		NaverOCRRequestDTO.Request requestBody = NaverOCRRequestDTO.Request.builder()
+			.version(NaverOCRConstant.RECOMMENDED_VERSION)
+			.requestId(UUID.randomUUID().toString())
+			.timestamp(System.currentTimeMillis())
+			.lang(NaverOCRConstant.LANG_KOREAN)
+			.images(images)
+			.build();
+
+		// 2. Naver OCR API 호출
+		NaverOCRResponseDTO.Response responseBody = webClient.post()
+			.uri(apiUrl)
+			.header("X-OCR-SECRET", secretKey)
+			.contentType(MediaType.APPLICATION_JSON)
+			.body(BodyInserters.fromValue(requestBody))
+			.retrieve()
+			.bodyToMono(NaverOCRResponseDTO.Response.class)
+			.block();
+
+		// 3. 이미지 name별 결과 반환, 단건 요청은 name이 누락되어도 그대로 사용
+		if (responseBody == null || responseBody.getImages() == null) {
+			throw new IllegalStateException("OCR 응답이 비어있습니다.");
+		}
+		List<NaverOCRResponseDTO.Image> results = responseBody.getImages();
+		if (images.size() == 1 && results.size() == 1) {
+			return Map.of(images.getFirst().getName(), results.getFirst());
+		}
+		return results
+			.stream()
+			.filter(image -> image.getName() != null)
+			.collect(Collectors.toMap(NaverOCRResponseDTO.Image::getName, Function.identity(), (a, b) -> a));
+	}
+
+	@Override
+	public void destroy() {
+		if (batcher != null) {
+			batcher.shutdown(false);
+		}
+	}
+}
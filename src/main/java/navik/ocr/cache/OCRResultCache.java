@@ -0,0 +1,128 @@
+package navik.ocr.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import navik.cache.ContentHash;
+import navik.cache.LocalLruCache;
+
+/**
+ * OCR 결과 캐시입니다. 로컬 LRU 캐시 -> Redis 순서로 조회합니다.
+ * URL 인덱스와 이미지 내용 인덱스를 분리하여, 같은 URL의 이미지가 바뀌면 내용 해시가 달라져 캐시를 사용하지 않습니다.
+ * Key: ocr:url:{URL 해시} -> Hash (digest, etag, lastModified)
+ * Key: ocr:text:{이미지 내용 해시} -> OCR 결과
+ */
+@Slf4j
+@Component
+public class OCRResultCache {
+
+	private static final String URL_KEY_PREFIX = "ocr:url:";
+	private static final String TEXT_KEY_PREFIX = "ocr:text:";
+
+	private final StringRedisTemplate redisTemplate;
+	private final LocalLruCache<String, UrlEntry> localUrlCache;
+	private final LocalLruCache<String, String> localTextCache;
+	private final Duration ttl;
+
+	public OCRResultCache(
+		StringRedisTemplate redisTemplate,
+		@Value("${cache.ocr.local-size}") int localSize,
+		@Value("${cache.ocr.ttl-days}") long ttlDays
+	) {
+		this.redisTemplate = redisTemplate;
+		this.ttl = Duration.ofDays(ttlDays);
+		this.localUrlCache = new LocalLruCache<>(localSize, ttl);
+		this.localTextCache = new LocalLruCache<>(localSize, ttl);
+	}
+
+	/**
+	 * 이미지 URL로 마지막으로 받은 이미지의 내용 해시와 검증 헤더를 조회합니다.
+	 */
+	public Optional<UrlEntry> findUrl(String imageUrl) {
+		String key = URL_KEY_PREFIX + ContentHash.sha256Hex(imageUrl);
+		UrlEntry cached = localUrlCache.get(key);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+		try {
+			Map<Object, Object> fields = redisTemplate.opsForHash().entries(key);
+			if (fields.get("digest") != null) {
+				UrlEntry entry = new UrlEntry(
+					(String)fields.get("digest"),
+					(String)fields.get("etag"),
+					(String)fields.get("lastModified"));
+				localUrlCache.put(key, entry);
+				return Optional.of(entry);
+			}
+		} catch (Exception exception) {
+			log.warn("[OCRResultCache] URL 인덱스 조회 실패: {}", exception.getMessage());
+		}
+		return Optional.empty();
+	}
+
+	public void saveUrl(String imageUrl, UrlEntry entry) {
+		String key = URL_KEY_PREFIX + ContentHash.sha256Hex(imageUrl);
+		localUrlCache.put(key, entry);
+		try {
+			Map<String, String> fields = new HashMap<>();
+			fields.put("digest", entry.digest());
+			if (entry.etag() != null) {
+				fields.put("etag", entry.etag());
+			}
+			if (entry.lastModified() != null) {
+				fields.put("lastModified", entry.lastModified());
+			}
+			redisTemplate.delete(key);
+			redisTemplate.opsForHash().putAll(key, fields);
+			redisTemplate.expire(key, ttl);
+		} catch (Exception exception) {
+			log.warn("[OCRResultCache] URL 인덱스 저장 실패: {}", exception.getMessage());
+		}
+	}
+
+	/**
+	 * 이미지 내용 해시로 OCR 결과를 조회합니다.
+	 */
+	public Optional<String> findText(String digest) {
+		String key = TEXT_KEY_PREFIX + digest;
+		String cached = localTextCache.get(key);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+		try {
+			String stored = redisTemplate.opsForValue().get(key);
+			if (stored != null) {
+				localTextCache.put(key, stored);
+				return Optional.of(stored);
+			}
+		} catch (Exception exception) {
+			log.warn("[OCRResultCache] OCR 결과 조회 실패: {}", exception.getMessage());
+		}
+		return Optional.empty();
+	}
+
+	public void saveText(String digest, String text) {
+		String key = TEXT_KEY_PREFIX + digest;
+		localTextCache.put(key, text);
+		try {
+			redisTemplate.opsForValue().set(key, text, ttl);
+		} catch (Exception exception) {
+			log.warn("[OCRResultCache] OCR 결과 저장 실패: {}", exception.getMessage());
+		}
+	}
+
+	/**
+	 * @param digest 이미지 내용의 SHA-256
+	 * @param etag 조건부 요청에 사용할 ETag, 없으면 null
+	 * @param lastModified 조건부 요청에 사용할 Last-Modified, 없으면 null
+	 */
+	public record UrlEntry(String digest, String etag, String lastModified) {
+	}
+}
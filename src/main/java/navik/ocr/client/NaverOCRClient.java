@@ -1,22 +1,27 @@
 package navik.ocr.client;
 
+import java.util.Base64;
 import java.util.List;
-import java.util.UUID;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import navik.cache.ContentHash;
+import navik.io.executor.BlockingIoExecutor;
+import navik.ocr.batch.OCRBatcher;
+import navik.ocr.cache.OCRResultCache;
 import navik.ocr.constant.NaverOCRConstant;
+import navik.ocr.dto.ImageDownloadDTO;
 import navik.ocr.dto.ImageMetadataDTO;
+import navik.ocr.dto.ImageTileDTO;
 import navik.ocr.dto.NaverOCRRequestDTO;
 import navik.ocr.dto.NaverOCRResponseDTO;
 import navik.ocr.util.ImageHelper;
+import navik.ocr.util.ImageTiler;
 
 /**
  * 구글 OCR 쓰려고 했으나, 결제 인증 문제로 인해 네이버 OCR로 임시 대체하였습니다.
@@ -26,94 +31,202 @@ import navik.ocr.util.ImageHelper;
 @RequiredArgsConstructor
 public class NaverOCRClient implements OCRClient {
 
-	@Value("${naver.ocr.url}")
-	private String apiUrl;
-	@Value("${naver.ocr.secretKey}")
-	private String secretKey;
+	private static final String FILTERED_DIGEST_PREFIX = "filtered-";
+
 	private final ImageHelper imageHelper;
-	private final WebClient webClient;
+	private final ImageTiler imageTiler;
+	private final OCRBatcher ocrBatcher;
+	private final BlockingIoExecutor blockingIoExecutor;
+	private final OCRResultCache ocrResultCache;
 
 	/**
-	 * 200px 이하의 이미지는 불필요 이미지로 판단하여, API 비용 절감을 위해 제외됩니다.
-	 * 네이버 권장 사항
-	 * 	  - 최대 용량: 50MB
-	 *    - 지원 확장자: "jpg", "jpeg", "png", "pdf", "tif", "tiff"
-	 *
+	 * 이미지 내용 해시로 OCR 결과를 캐시합니다.
+	 * 이미지 앞부분만 받아 변경 여부와 메타데이터를 먼저 확인하고, OCR 대상인 이미지만 한 번 다운로드하여 Base64로 전달합니다.
 	 */
 	@Override
 	public String extractFromImageUrl(String imageUrl) {
 
-		// 1. 이미지 메타데이터 추출
-		ImageMetadataDTO metadata = imageHelper.getMetadata(imageUrl);
+		// 1. 이미지 앞부분 다운로드, 이전에 받은 이미지라면 변경된 경우에만 본문을 받음
+		Optional<OCRResultCache.UrlEntry> known = ocrResultCache.findUrl(imageUrl);
+		ImageDownloadDTO probe = imageHelper.probe(imageUrl,
+			known.map(OCRResultCache.UrlEntry::etag).orElse(null),
+			known.map(OCRResultCache.UrlEntry::lastModified).orElse(null));
+		if (probe == null) {
+			log.error("[NaverOcrService] 이미지 다운로드에 실패하였습니다: {}", imageUrl);
+			return "";
+		}
+
+		// 2. 변경되지 않은 이미지는 캐시된 결과 반환, 결과가 만료된 경우 다시 받음
+		if (probe.isNotModified()) {
+			Optional<String> cached = ocrResultCache.findText(known.get().digest());
+			if (cached.isPresent()) {
+				return cached.get();
+			}
+			probe = imageHelper.probe(imageUrl, null, null);
+			if (probe == null) {
+				log.error("[NaverOcrService] 이미지 다운로드에 실패하였습니다: {}", imageUrl);
+				return "";
+			}
+		}
+
+		// 3. 앞부분으로 OCR 대상 여부 검사, 메타데이터를 읽지 못하면 전체 다운로드 후 검사
+		if (probe.getTotalSize() > NaverOCRConstant.MAX_FILE_SIZE) {
+			log.info("[NaverOcrService] 최대 용량을 초과하였습니다: {}", imageUrl);
+			return skipFiltered(imageUrl, probe);
+		}
+		ImageMetadataDTO metadata = probe.getTotalSize() > 0
+			? imageHelper.getMetadata(probe.getBytes(), probe.getTotalSize())
+			: null;
+		if (metadata != null && !isOcrTarget(imageUrl, metadata)) {
+			return skipFiltered(imageUrl, probe);
+		}
+
+		// 4. 전체 이미지 다운로드 (Range 미지원 서버는 이미 전체를 받음)
+		ImageDownloadDTO image = probe.isComplete() ? probe : imageHelper.download(imageUrl);
+		if (image == null) {
+			log.error("[NaverOcrService] 이미지 다운로드에 실패하였습니다: {}", imageUrl);
+			return "";
+		}
 		if (metadata == null) {
-			log.error("[NaverOcrService] 이미지 메타데이터 추출에 실패하였습니다: {}", imageUrl);
+			metadata = imageHelper.getMetadata(image.getBytes(), image.getBytes().length);
+			if (metadata == null) {
+				log.error("[NaverOcrService] 이미지 메타데이터 추출에 실패하였습니다: {}", imageUrl);
+				return "";
+			}
+			if (!isOcrTarget(imageUrl, metadata)) {
+				return skipFiltered(imageUrl, image);
+			}
+		}
+
+		// 5. 이미지 내용이 같으면 캐시된 결과 반환
+		String digest = ContentHash.sha256Hex(image.getBytes());
+		ocrResultCache.saveUrl(imageUrl,
+			new OCRResultCache.UrlEntry(digest, image.getEtag(), image.getLastModified()));
+		Optional<String> cached = ocrResultCache.findText(digest);
+		if (cached.isPresent()) {
+			return cached.get();
+		}
+
+		// 6. 다운로드한 이미지를 Base64로 전달하여 OCR 후 결과 캐시
+		//    일시적인 인식 실패가 보관 기간 동안 유지되지 않도록, 모든 요청이 성공한 경우만 캐시
+		Recognition recognition = recognize(image.getBytes(), metadata);
+		if (recognition.succeeded()) {
+			ocrResultCache.saveText(digest, recognition.text());
+		} else {
+			log.warn("[NaverOcrService] OCR 인식에 실패한 이미지가 있어 결과를 캐시하지 않습니다: {}", imageUrl);
+		}
+		return recognition.text();
+	}
+
+	/**
+	 * OCR 대상이 아닌 이미지는 빈 결과를 캐시하여, 다음 크롤링에서 조건부 요청만으로 건너뜁니다.
+	 * 이미지 전체를 받지 않았으므로 내용 해시 대신 URL과 검증 헤더로 키를 만들며, 검증 헤더가 없으면 캐시하지 않습니다.
+	 */
+	private String skipFiltered(String imageUrl, ImageDownloadDTO download) {
+		if (download.getEtag() == null && download.getLastModified() == null) {
 			return "";
 		}
+		String digest = FILTERED_DIGEST_PREFIX
+			+ ContentHash.sha256Hex(imageUrl + "|" + download.getEtag() + "|" + download.getLastModified());
+		ocrResultCache.saveUrl(imageUrl,
+			new OCRResultCache.UrlEntry(digest, download.getEtag(), download.getLastModified()));
+		ocrResultCache.saveText(digest, "");
+		return "";
+	}
+
+	/**
+	 * 최대 픽셀을 넘는 이미지는 겹치는 타일로 나누어 동시에 OCR하고, 겹치는 영역의 중복 텍스트를 제거하여 합칩니다.
+	 * 전체 동시 요청 수는 NAVER_OCR 제한을 따릅니다.
+	 */
+	private Recognition recognize(byte[] bytes, ImageMetadataDTO metadata) {
+
+		// 1. 타일 분할 (최대 픽셀 이내면 원본 하나)
+		List<ImageTileDTO> tiles = imageTiler.split(bytes, metadata);
+		List<Optional<List<NaverOCRResponseDTO.Field>>> results;
+		if (tiles.size() == 1) {
+			results = List.of(requestFields(toRequestImage(tiles.getFirst())));
+		} else {
+			// 2. 타일 동시 OCR
+			List<CompletableFuture<Optional<List<NaverOCRResponseDTO.Field>>>> futures = tiles.stream()
+				.map(tile -> blockingIoExecutor.submit(() -> requestFields(toRequestImage(tile))))
+				.toList();
+			results = futures.stream()
+				.map(CompletableFuture::join)
+				.toList();
+		}
 
-		// 2. 이미지 최대 용량 검사
+		// 3. 순서대로 병합, 실패한 타일은 빈 결과로 처리
+		List<List<NaverOCRResponseDTO.Field>> tileFields = results.stream()
+			.map(result -> result.orElse(List.of()))
+			.toList();
+		boolean succeeded = results.stream().allMatch(Optional::isPresent);
+		return new Recognition(imageTiler.stitch(tiles, tileFields), succeeded);
+	}
+
+	private NaverOCRRequestDTO.Image toRequestImage(ImageTileDTO tile) {
+		return NaverOCRRequestDTO.Image.builder()
+			.format(tile.getFormat())
+			.data(Base64.getEncoder().encodeToString(tile.getBytes()))
+			.build();
+	}
+
+	/**
+	 * 200px 이하의 이미지는 불필요 이미지로 판단하여, API 비용 절감을 위해 제외됩니다.
+	 * 네이버 권장 사항
+	 * 	  - 최대 용량: 50MB
+	 *    - 지원 확장자: "jpg", "jpeg", "png", "pdf", "tif", "tiff"
+	 *
+	 */
+	private boolean isOcrTarget(String imageUrl, ImageMetadataDTO metadata) {
+
+		// 1. 이미지 최대 용량 검사
 		long size = metadata.getFileSize();
 		if (!isSupportedFileSize(size)) {
 			log.info("[NaverOcrService] 최대 용량을 초과하였습니다: {}", imageUrl);
-			return "";
+			return false;
 		}
 
-		// 3. API 호출 비용 절감을 위한 작은 이미지 제외
+		// 2. API 호출 비용 절감을 위한 작은 이미지 제외
 		int width = metadata.getWidth();
 		int height = metadata.getHeight();
 		if (isTrashImage(width, height)) {
 			log.info("[NaverOcrService] 매우 작은 이미지입니다: {}", imageUrl);
-			return "";
+			return false;
 		}
 
-		// 4. 이미지 확장자 검사
+		// 3. 이미지 확장자 검사
 		String extension = metadata.getExtension();
 		if (!isSupportedExtension(extension)) {
 			log.info("[NaverOcrService] 미지원 확장자입니다: {}", imageUrl);
-			return "";
+			return false;
 		}
 
-		// 5. API 호출 결과 반환
-		return requestApi(imageUrl, extension);
+		return true;
 	}
 
-	private String requestApi(String imageUrl, String extension) {
-
-		// 1. inner DTO 생성
-		NaverOCRRequestDTO.Image image = NaverOCRRequestDTO.Image.builder()
-			.format(extension)
-			.name("navik-image")
-			.url(imageUrl)
-			.build();
-
-		// 2. inner DTO 포함, 최종 request body 생성
-		NaverOCRRequestDTO.Request requestBody = NaverOCRRequestDTO.Request.builder()
-			.version(NaverOCRConstant.RECOMMENDED_VERSION)
-			.requestId(UUID.randomUUID().toString())
-			.timestamp(System.currentTimeMillis())
-			.lang(NaverOCRConstant.LANG_KOREAN)
-			.images(List.of(image))
-			.build();
-
-		// 3. Naver OCR API 호출
-		NaverOCRResponseDTO.Response responseBody = webClient.post()
-			.uri(apiUrl)
-			.header("X-OCR-SECRET", secretKey)
-			.contentType(MediaType.APPLICATION_JSON)
-			.body(BodyInserters.fromValue(requestBody))
-			.retrieve()
-			.bodyToMono(NaverOCRResponseDTO.Response.class)
-			.block();
-
-		// 4. 텍스트 추출
-		String result = responseBody.getImages()
+	private String requestApi(NaverOCRRequestDTO.Image image) {
+		return requestFields(image)
+			.orElse(List.of())
 			.stream()
-			.filter(img -> "SUCCESS".equals(img.getInferResult()))
-			.flatMap(img -> img.getFields().stream())
 			.map(NaverOCRResponseDTO.Field::getInferText)
-			.collect(Collectors.joining(" "));
+			.collect(Collectors.joining(" "))
+			.trim();
+	}
 
-		// 5. OCR 결과 반환
-		return result.trim();
+	/**
+	 * 인식 결과를 반환합니다. inferResult가 SUCCESS가 아니면 빈 Optional을 반환합니다.
+	 */
+	private Optional<List<NaverOCRResponseDTO.Field>> requestFields(NaverOCRRequestDTO.Image image) {
+
+		// 1. Naver OCR API 호출, 배치 모드에서는 다른 이미지와 함께 전송
+		NaverOCRResponseDTO.Image result = ocrBatcher.request(image);
+
+		// 2. 인식 결과 반환
+		if (!"SUCCESS".equals(result.getInferResult())) {
+			log.warn("[NaverOcrService] OCR 인식 실패: {} {}", result.getInferResult(), result.getMessage());
+			return Optional.empty();
+		}
+		return Optional.of(result.getFields() == null ? List.of() : result.getFields());
 	}
 
 	/**
@@ -128,7 +241,10 @@ public class NaverOCRClient implements OCRClient {
 		}
 
 		try {
-			return requestApi(pdfUrl, "pdf");
+			return requestApi(NaverOCRRequestDTO.Image.builder()
+				.format("pdf")
+				.url(pdfUrl)
+				.build());
 		} catch (Exception e) {
 			log.error("[NaverOcrService] PDF OCR 처리에 실패하였습니다: {}", e.getMessage(), e);
 			return "";
@@ -146,4 +262,10 @@ public class NaverOCRClient implements OCRClient {
 	private boolean isTrashImage(int width, int height) {
 		return width <= NaverOCRConstant.TRASH_PIXEL_SIZE || height <= NaverOCRConstant.TRASH_PIXEL_SIZE;
 	}
+
+	/**
+	 * @param succeeded 모든 이미지(타일)의 인식이 성공했는지 여부, 실패가 있으면 캐시하지 않음
+	 */
+	private record Recognition(String text, boolean succeeded) {
+	}
 }
@@ -12,7 +12,9 @@ import org.springframework.web.reactive.function.client.WebClient;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
+import navik.ocr.constant.NaverOCRConstant;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
 public class WebClientConfig {
@@ -42,4 +44,37 @@ public class WebClientConfig {
 				"Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/110.0.0.0 Safari/537.36")
 			.build();
 	}
+
+	@Bean("imageWebClient")
+	public WebClient imageWebClient() {
+		// 1. 이미지 서버 커넥션 풀 설정
+		ConnectionProvider provider = ConnectionProvider.builder("ocr-image")
+			.maxConnections(50)
+			.pendingAcquireTimeout(Duration.ofSeconds(10))
+			.maxIdleTime(Duration.ofSeconds(30))
+			.build();
+
+		// 2. HttpClient 설정 (Range 요청의 Content-Range가 어긋나지 않도록 압축 미사용)
+		HttpClient httpClient = HttpClient.create(provider)
+			.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5000)
+			.responseTimeout(Duration.ofSeconds(10))
+			.doOnConnected(conn ->
+				conn.addHandlerLast(new ReadTimeoutHandler(10))
+					.addHandlerLast(new WriteTimeoutHandler(10)))
+			.followRedirect(true)
+			.keepAlive(true);
+
+		// 3. 메모리 버퍼를 OCR 최대 용량까지 확장
+		ExchangeStrategies strategies = ExchangeStrategies.builder()
+			.codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(NaverOCRConstant.MAX_FILE_SIZE))
+			.build();
+
+		// 4. WebClient 빌드 (이미지 다운로드용)
+		return WebClient.builder()
+			.clientConnector(new ReactorClientHttpConnector(httpClient))
+			.exchangeStrategies(strategies)
+			.defaultHeader(HttpHeaders.USER_AGENT,
+				"Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/110.0.0.0 Safari/537.36")
+			.build();
+	}
 }
@@ -9,4 +9,7 @@ public class NaverOCRConstant {
 	public static final String LANG_KOREAN = "ko";
 	public static final List<String> SUPPORTED_EXTENSIONS = List.of("jpg", "jpeg", "png", "pdf", "tif", "tiff");
 	public static final int TRASH_PIXEL_SIZE = 200;
+	public static final int TILE_OVERLAP_PIXEL = 120; // 타일 경계에 걸친 글자를 위해 겹치는 높이
+	public static final long MAX_DECODE_PIXELS = 8_000_000L; // 전체 디코딩을 허용하는 최대 픽셀 수 (약 32MB)
+	public static final int IMAGE_PROBE_SIZE = 64 * 1024; // 메타데이터 확인용 Range 요청 크기 (64KB)
 }
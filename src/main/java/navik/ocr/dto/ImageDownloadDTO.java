@@ -0,0 +1,15 @@
+package navik.ocr.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ImageDownloadDTO {
+	private final boolean notModified;    // 조건부 요청 결과 변경되지 않음 (304)
+	private final boolean complete;       // bytes가 이미지 전체인지 여부 (Range 요청 시 앞부분만 받음)
+	private final byte[] bytes;           // 이미지 내용, notModified인 경우 null
+	private final long totalSize;         // 이미지 전체 용량, 알 수 없으면 -1
+	private final String etag;            // ETag 응답 헤더
+	private final String lastModified;    // Last-Modified 응답 헤더
+}
@@ -0,0 +1,13 @@
+package navik.ocr.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ImageTileDTO {
+	private final byte[] bytes;     // 타일 이미지 내용
+	private final String format;    // 타일 이미지 확장자
+	private final int keepFromY;    // 이 타일이 담당하는 영역 시작 (타일 기준 y, 포함)
+	private final int keepToY;      // 이 타일이 담당하는 영역 끝 (타일 기준 y, 미포함)
+}
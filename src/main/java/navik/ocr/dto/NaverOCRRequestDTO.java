@@ -14,11 +14,11 @@ public class NaverOCRRequestDTO {
 		private String requestId;    // 요청 식별을 위한 UUID
 		private long timestamp;    // 요청 시각
 		private String lang;    // 이미지에 적힌 언어
-		private List<Image> images;    // 호출 당 1개의 이미지 OCR
+		private List<Image> images;    // 호출 당 1개의 이미지 OCR 권장, 배치 모드에서는 여러 개 (naver.ocr.batch.max-size)
 	}
 
 	@Getter
-	@Builder
+	@Builder(toBuilder = true)
 	public static class Image {
 		private String format;    // jpg, jpeg, png, pdf, tif, tiff
 		private String name;    // 이미지 식별 이름
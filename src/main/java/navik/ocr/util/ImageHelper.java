@@ -1,23 +1,79 @@
 package navik.ocr.util;
 
-import java.io.InputStream;
-import java.net.URL;
-import java.net.URLConnection;
+import java.awt.Dimension;
+import java.net.URI;
 
-import org.apache.commons.imaging.ImageInfo;
+import org.apache.commons.imaging.ImageFormat;
 import org.apache.commons.imaging.Imaging;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import lombok.extern.slf4j.Slf4j;
+import navik.io.enums.Downstream;
+import navik.io.executor.BlockingIoExecutor;
+import navik.ocr.constant.NaverOCRConstant;
+import navik.ocr.dto.ImageDownloadDTO;
 import navik.ocr.dto.ImageMetadataDTO;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @Component
 public class ImageHelper {
 
-	private final int TIMEOUT_MS = 5000;
+	private final WebClient imageWebClient;
+	private final BlockingIoExecutor blockingIoExecutor;
 
-	public ImageMetadataDTO getMetadata(String imageUrl) {
+	public ImageHelper(
+		@Qualifier("imageWebClient") WebClient imageWebClient,
+		BlockingIoExecutor blockingIoExecutor
+	) {
+		this.imageWebClient = imageWebClient;
+		this.blockingIoExecutor = blockingIoExecutor;
+	}
+
+	/**
+	 * Range 요청으로 이미지의 앞부분만 받아 메타데이터 확인에 사용합니다.
+	 * etag 또는 lastModified가 주어지면 조건부 요청을 보내고, 변경되지 않은 경우 본문 없이 notModified를 반환합니다.
+	 * 서버가 Range를 지원하지 않으면 전체 이미지를 받으며, 이 경우 complete가 true입니다.
+	 */
+	public ImageDownloadDTO probe(String imageUrl, String etag, String lastModified) {
+		return fetch(imageUrl, etag, lastModified, true);
+	}
+
+	/**
+	 * 이미지 전체를 다운로드합니다.
+	 */
+	public ImageDownloadDTO download(String imageUrl) {
+		return fetch(imageUrl, null, null, false);
+	}
+
+	/**
+	 * 이미지 앞부분 또는 전체로부터 메타데이터를 추출합니다.
+	 * 포맷과 크기는 헤더만으로 판단하므로, 앞부분만 받은 경우에도 대부분 추출됩니다.
+	 */
+	public ImageMetadataDTO getMetadata(byte[] bytes, long fileSize) {
+		try {
+			ImageFormat format = Imaging.guessFormat(bytes);
+			Dimension size = Imaging.getImageSize(bytes);
+
+			return ImageMetadataDTO.builder()
+				.fileSize(fileSize)
+				.width(size.width)
+				.height(size.height)
+				.extension(format.getDefaultExtension().toLowerCase())
+				.build();
+		} catch (Exception e) {
+			log.debug("[ImageHelper] 이미지 메타데이터 추출에 실패하였습니다: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	private ImageDownloadDTO fetch(String imageUrl, String etag, String lastModified, boolean probe) {
 
 		if (imageUrl == null || imageUrl.isBlank()) {
 			log.warn("[ImageHelper] 이미지 URL이 null이거나 비어있습니다.");
@@ -30,24 +86,101 @@ public class ImageHelper {
 		}
 
 		try {
-			URL url = new URL(imageUrl);
-
-			URLConnection connection = url.openConnection();
-			connection.setConnectTimeout(TIMEOUT_MS);
-			connection.setReadTimeout(TIMEOUT_MS);
-			try (InputStream stream = connection.getInputStream()) {
-				ImageInfo imageInfo = Imaging.getImageInfo(stream, "");
-
-				return ImageMetadataDTO.builder()
-					.fileSize(connection.getContentLengthLong())
-					.width(imageInfo.getWidth())
-					.height(imageInfo.getHeight())
-					.extension(imageInfo.getFormat().getDefaultExtension().toLowerCase())
-					.build();
-			}
+			return blockingIoExecutor.call(Downstream.JOBKOREA, () ->
+				imageWebClient.get()
+					.uri(toUri(imageUrl))
+					.headers(headers -> {
+						if (probe) {
+							headers.set(HttpHeaders.RANGE, "bytes=0-" + (NaverOCRConstant.IMAGE_PROBE_SIZE - 1));
+						}
+						if (etag != null) {
+							headers.setIfNoneMatch(etag);
+						}
+						if (lastModified != null) {
+							headers.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+						}
+					})
+					.exchangeToMono(response -> readResponse(response, etag, lastModified))
+					.block());
 		} catch (Exception e) {
-			log.error("[ImageHelper] 이미지 메타데이터 추출에 실패하였습니다: {}", e.getMessage());
+			log.error("[ImageHelper] 이미지 다운로드에 실패하였습니다: {}", e.getMessage());
 			return null;
 		}
 	}
+
+	private Mono<ImageDownloadDTO> readResponse(ClientResponse response, String etag, String lastModified) {
+		HttpHeaders headers = response.headers().asHttpHeaders();
+
+		// 1. 변경되지 않은 이미지
+		if (response.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+			return response.releaseBody().thenReturn(ImageDownloadDTO.builder()
+				.notModified(true)
+				.totalSize(-1)
+				.etag(etag)
+				.lastModified(lastModified)
+				.build());
+		}
+
+		if (!response.statusCode().is2xxSuccessful()) {
+			return response.createError();
+		}
+
+		// 2. Range 응답이면 앞부분, 아니면 전체 이미지 (Range 응답이 파일 전체를 담은 작은 이미지는 전체로 간주)
+		boolean complete = !response.statusCode().isSameCodeAs(HttpStatus.PARTIAL_CONTENT);
+		long totalSize = complete ? headers.getContentLength() : parseTotalSize(headers.getFirst(HttpHeaders.CONTENT_RANGE));
+
+		// 3. 최대 용량을 넘는 이미지는 본문을 받지 않음
+		if (complete && totalSize > NaverOCRConstant.MAX_FILE_SIZE) {
+			return response.releaseBody().thenReturn(ImageDownloadDTO.builder()
+				.complete(false)
+				.bytes(new byte[0])
+				.totalSize(totalSize)
+				.etag(headers.getETag())
+				.lastModified(headers.getFirst(HttpHeaders.LAST_MODIFIED))
+				.build());
+		}
+
+		return response.bodyToMono(byte[].class)
+			.defaultIfEmpty(new byte[0])
+			.map(bytes -> ImageDownloadDTO.builder()
+				.complete(complete || isWholeRange(bytes, totalSize))
+				.bytes(bytes)
+				.totalSize(complete ? bytes.length : totalSize)
+				.etag(headers.getETag())
+				.lastModified(headers.getFirst(HttpHeaders.LAST_MODIFIED))
+				.build());
+	}
+
+	/**
+	 * 이미 인코딩된 url은 그대로 사용하고, 공백이나 한글 등 인코딩되지 않은 문자가 있으면 인코딩합니다.
+	 * 이미 인코딩된 url을 다시 인코딩하면 %가 %25로 바뀌므로, 먼저 그대로 해석을 시도합니다.
+	 */
+	private URI toUri(String imageUrl) {
+		try {
+			return URI.create(imageUrl);
+		} catch (IllegalArgumentException e) {
+			return UriComponentsBuilder.fromUriString(imageUrl).build().encode().toUri();
+		}
+	}
+
+	/**
+	 * Range 응답이 파일 전체를 담고 있는지 확인합니다. (IMAGE_PROBE_SIZE 이하의 작은 이미지)
+	 */
+	private boolean isWholeRange(byte[] bytes, long totalSize) {
+		return totalSize > 0 && bytes.length == totalSize;
+	}
+
+	/**
+	 * Content-Range: bytes 0-65535/123456 에서 전체 용량을 추출합니다.
+	 */
+	private long parseTotalSize(String contentRange) {
+		if (contentRange == null) {
+			return -1;
+		}
+		try {
+			return Long.parseLong(contentRange.substring(contentRange.lastIndexOf('/') + 1).trim());
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
 }
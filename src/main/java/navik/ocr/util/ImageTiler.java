@@ -0,0 +1,230 @@
+package navik.ocr.util;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.apache.commons.imaging.Imaging;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import navik.ocr.constant.NaverOCRConstant;
+import navik.ocr.dto.ImageMetadataDTO;
+import navik.ocr.dto.ImageTileDTO;
+import navik.ocr.dto.NaverOCRResponseDTO;
+
+/**
+ * OCR 전에 최대 픽셀(MAX_PIXEL)을 넘는 이미지를 전처리합니다.
+ * 가로가 긴 이미지는 정수 배율로 건너뛰며 읽어(subsampling) 축소하고, 세로가 긴 이미지는 서로 겹치는 타일로 나눕니다.
+ * 각 타일은 겹치는 영역의 절반씩을 담당하며, 담당 영역 밖의 OCR 결과는 합칠 때 제외됩니다.
+ * 이미지 전체를 디코딩하지 않고 ImageReader로 타일 영역만 읽어, 세로로 매우 긴 이미지도 타일 크기만큼의 메모리만 사용합니다.
+ */
+@Slf4j
+@Component
+public class ImageTiler {
+
+	/**
+	 * 이미지를 OCR 요청 단위로 나눕니다.
+	 * 최대 픽셀 이내이거나 읽을 수 없는 이미지는 원본 그대로 하나의 타일로 반환합니다.
+	 */
+	public List<ImageTileDTO> split(byte[] bytes, ImageMetadataDTO metadata) {
+		int width = metadata.getWidth();
+		int height = metadata.getHeight();
+		if (width <= NaverOCRConstant.MAX_PIXEL && height <= NaverOCRConstant.MAX_PIXEL) {
+			return List.of(original(bytes, metadata));
+		}
+
+		// 1. 가로가 최대 픽셀 이내가 되는 정수 배율 계산 (세로도 같은 배율로 비율 유지)
+		int subsampling = Math.ceilDiv(width, NaverOCRConstant.MAX_PIXEL);
+		List<Band> bands = bands(Math.ceilDiv(height, subsampling));
+
+		// 2. 타일 영역만 읽어서 인코딩, ImageIO가 읽지 못하는 포맷은 commons-imaging으로 전체 디코딩
+		try {
+			List<ImageTileDTO> tiles = readTiles(bytes, width, height, subsampling, bands);
+			if (tiles == null) {
+				tiles = decodeTiles(bytes, width, height, subsampling, bands);
+			}
+			if (tiles == null) {
+				log.warn("[ImageTiler] 이미지를 읽을 수 없어 원본으로 요청합니다. ({}x{})", width, height);
+				return List.of(original(bytes, metadata));
+			}
+			log.debug("[ImageTiler] {}x{} 이미지를 1/{} 배율, {}개 타일로 분할", width, height, subsampling, tiles.size());
+			return tiles;
+		} catch (IOException | RuntimeException e) {
+			log.warn("[ImageTiler] 타일 분할에 실패하여 원본으로 요청합니다: {}", e.getMessage());
+			return List.of(original(bytes, metadata));
+		}
+	}
+
+	/**
+	 * 축소된 높이를 MAX_PIXEL 높이의 겹치는 구간으로 나눕니다.
+	 * 인접한 두 타일은 겹치는 영역의 가운데를 경계로 담당 영역을 나눕니다.
+	 */
+	List<Band> bands(int height) {
+		int halfOverlap = NaverOCRConstant.TILE_OVERLAP_PIXEL / 2;
+		int step = NaverOCRConstant.MAX_PIXEL - NaverOCRConstant.TILE_OVERLAP_PIXEL;
+
+		List<Band> bands = new ArrayList<>();
+		for (int top = 0; ; top += step) {
+			int bandHeight = Math.min(NaverOCRConstant.MAX_PIXEL, height - top);
+			boolean first = top == 0;
+			boolean last = top + bandHeight >= height;
+			bands.add(new Band(top, bandHeight, first ? 0 : halfOverlap, last ? bandHeight : bandHeight - halfOverlap));
+			if (last) {
+				return bands;
+			}
+		}
+	}
+
+	/**
+	 * ImageReader의 영역 읽기(setSourceRegion)와 건너뛰기(setSourceSubsampling)로 타일만 디코딩합니다.
+	 * 이미지를 읽을 수 있는 ImageReader가 없으면 null을 반환합니다.
+	 */
+	private List<ImageTileDTO> readTiles(byte[] bytes, int width, int height, int subsampling, List<Band> bands)
+		throws IOException {
+		try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+			Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+			if (readers == null || !readers.hasNext()) {
+				return null;
+			}
+
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(input, true, true);
+				List<ImageTileDTO> tiles = new ArrayList<>();
+				for (Band band : bands) {
+					int sourceTop = band.top() * subsampling;
+					int sourceHeight = Math.min(band.height() * subsampling, height - sourceTop);
+
+					ImageReadParam param = reader.getDefaultReadParam();
+					param.setSourceRegion(new Rectangle(0, sourceTop, width, sourceHeight));
+					param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+					tiles.add(toTile(reader.read(0, param), band));
+				}
+				return tiles;
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	/**
+	 * commons-imaging으로 전체 이미지를 디코딩한 후 타일로 나눕니다.
+	 * 메모리 사용량을 제한하기 위해 MAX_DECODE_PIXELS를 넘는 이미지는 null을 반환합니다.
+	 */
+	private List<ImageTileDTO> decodeTiles(byte[] bytes, int width, int height, int subsampling, List<Band> bands)
+		throws IOException {
+		if ((long)width * height > NaverOCRConstant.MAX_DECODE_PIXELS) {
+			return null;
+		}
+
+		BufferedImage decoded = Imaging.getBufferedImage(bytes);
+		int scaledWidth = Math.ceilDiv(decoded.getWidth(), subsampling);
+		int scaledHeight = Math.ceilDiv(decoded.getHeight(), subsampling);
+		BufferedImage image = subsampling == 1 ? decoded : normalize(decoded, scaledWidth, scaledHeight);
+
+		List<ImageTileDTO> tiles = new ArrayList<>();
+		for (Band band : bands) {
+			int bandHeight = Math.min(band.height(), image.getHeight() - band.top());
+			tiles.add(toTile(image.getSubimage(0, band.top(), image.getWidth(), bandHeight), band));
+		}
+		return tiles;
+	}
+
+	private ImageTileDTO toTile(BufferedImage tile, Band band) throws IOException {
+		BufferedImage image = normalize(tile, tile.getWidth(), tile.getHeight());
+		String format = image.getColorModel().hasAlpha() ? "png" : "jpg";
+		return ImageTileDTO.builder()
+			.bytes(encode(image, format))
+			.format(format)
+			.keepFromY(band.keepFromY())
+			.keepToY(band.keepToY())
+			.build();
+	}
+
+	/**
+	 * 타일별 OCR 결과를 순서대로 합칩니다.
+	 * 글자 영역의 세로 중심이 타일의 담당 영역 안에 있는 경우만 포함하여, 겹치는 영역의 중복을 제거합니다.
+	 * 영역 정보가 없는 결과는 그대로 포함합니다.
+	 */
+	public String stitch(List<ImageTileDTO> tiles, List<List<NaverOCRResponseDTO.Field>> tileFields) {
+		List<String> texts = new ArrayList<>();
+		for (int i = 0; i < tiles.size(); i++) {
+			ImageTileDTO tile = tiles.get(i);
+			for (NaverOCRResponseDTO.Field field : tileFields.get(i)) {
+				double centerY = centerY(field);
+				if (Double.isNaN(centerY) || (centerY >= tile.getKeepFromY() && centerY < tile.getKeepToY())) {
+					texts.add(field.getInferText());
+				}
+			}
+		}
+		return String.join(" ", texts).trim();
+	}
+
+	private ImageTileDTO original(byte[] bytes, ImageMetadataDTO metadata) {
+		return ImageTileDTO.builder()
+			.bytes(bytes)
+			.format(metadata.getExtension())
+			.keepFromY(0)
+			.keepToY(Integer.MAX_VALUE)
+			.build();
+	}
+
+	/**
+	 * 크기 조정과 함께 인코딩 가능한 RGB(A) 이미지로 변환합니다. (인덱스 컬러, 그레이스케일 등 대응)
+	 */
+	private BufferedImage normalize(BufferedImage source, int width, int height) {
+		int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+		BufferedImage target = new BufferedImage(width, height, type);
+		Graphics2D graphics = target.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			graphics.drawImage(source, 0, 0, width, height, null);
+		} finally {
+			graphics.dispose();
+		}
+		return target;
+	}
+
+	private byte[] encode(BufferedImage image, String format) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		if (!ImageIO.write(image, format, output)) {
+			throw new IOException(format + " 인코더를 찾을 수 없습니다.");
+		}
+		return output.toByteArray();
+	}
+
+	private double centerY(NaverOCRResponseDTO.Field field) {
+		if (field.getBoundingPoly() == null || field.getBoundingPoly().getVertices() == null) {
+			return Double.NaN;
+		}
+		return field.getBoundingPoly().getVertices().stream()
+			.mapToDouble(NaverOCRResponseDTO.Vertex::getY)
+			.average()
+			.orElse(Double.NaN);
+	}
+
+	/**
+	 * 축소된 이미지 기준 타일 구간
+	 * @param top 타일 시작 y
+	 * @param height 타일 높이
+	 * @param keepFromY 담당 영역 시작 (타일 기준 y, 포함)
+	 * @param keepToY 담당 영역 끝 (타일 기준 y, 미포함)
+	 */
+	record Band(int top, int height, int keepFromY, int keepToY) {
+	}
+}
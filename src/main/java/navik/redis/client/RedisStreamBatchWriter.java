@@ -0,0 +1,100 @@
+package navik.redis.client;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.ObjectRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import navik.io.batch.MicroBatcher;
+
+/**
+ * 스트림 레코드를 모아서 파이프라이닝으로 한 번에 XADD 하는 클래스입니다.
+ * 배치 수집과 종료 처리는 MicroBatcher가 담당하며, 여기서는 파이프라인 전송과 레코드별 결과 변환을 담당합니다.
+ * 파이프라인은 한 번에 하나씩 순서대로 전송하고, 종료 시 남은 레코드는 모두 발행한 후 종료합니다.
+ */
+@Slf4j
+@Component
+public class RedisStreamBatchWriter implements DisposableBean {
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final MicroBatcher<StreamAdd, Object> batcher;
+
+	public RedisStreamBatchWriter(
+		RedisTemplate<String, Object> redisTemplate,
+		@Value("${spring.data.redis.stream.batch.max-size}") int maxBatchSize,
+		@Value("${spring.data.redis.stream.batch.max-wait-ms}") long maxWaitMillis
+	) {
+		this.redisTemplate = redisTemplate;
+		this.batcher = new MicroBatcher<>("redis-stream-flusher", maxBatchSize, Duration.ofMillis(maxWaitMillis), 1,
+			this::flush);
+	}
+
+	/**
+	 * 레코드를 다음 배치에 추가하고, 발행된 recordId로 완료되는 future를 반환합니다.
+	 */
+	public CompletableFuture<RecordId> add(ObjectRecord<String, String> record,
+		RedisStreamCommands.XAddOptions options) {
+		return batcher.enqueue(new StreamAdd(record, options)).thenApply(RedisStreamBatchWriter::toRecordId);
+	}
+
+	/**
+	 * 배치의 XADD를 파이프라이닝으로 전송하고, 요청 순서대로 명령별 응답을 반환합니다.
+	 * 일부 명령만 실패한 경우 해당 위치의 응답이 예외이며, 나머지 레코드는 성공으로 처리됩니다.
+	 */
+	private CompletableFuture<List<Object>> flush(List<StreamAdd> batch) {
+		try {
+			List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public <K, V> Object execute(RedisOperations<K, V> operations) {
+					RedisOperations<String, Object> streamOperations = (RedisOperations<String, Object>)operations;
+					for (StreamAdd add : batch) {
+						streamOperations.opsForStream().add(add.record(), add.options());
+					}
+					return null;
+				}
+			});
+			log.debug("[RedisStreamBatchWriter] 배치 발행 {}건", batch.size());
+			return CompletableFuture.completedFuture(results);
+		} catch (RedisPipelineException exception) {
+			log.warn("[RedisStreamBatchWriter] 배치 발행 중 일부 실패 {}건: {}", batch.size(), exception.getMessage());
+			return CompletableFuture.completedFuture(exception.getResults());
+		}
+	}
+
+	/**
+	 * 명령별 파이프라인 응답을 recordId로 변환합니다. 응답이 예외이면 해당 레코드를 실패로 완료합니다.
+	 */
+	private static RecordId toRecordId(Object result) {
+		if (result instanceof Throwable throwable) {
+			throw throwable instanceof CompletionException completion ? completion : new CompletionException(throwable);
+		}
+		if (result instanceof RecordId recordId) {
+			return recordId;
+		}
+		return RecordId.of(result.toString());
+	}
+
+	/**
+	 * 남은 레코드를 모두 발행한 후 종료합니다.
+	 */
+	@Override
+	public void destroy() {
+		batcher.shutdown(true);
+	}
+
+	private record StreamAdd(ObjectRecord<String, String> record, RedisStreamCommands.XAddOptions options) {
+	}
+}
@@ -1,46 +1,204 @@
 package navik.redis.client;
 
-import java.util.Objects;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.connection.RedisStreamCommands;
 import org.springframework.data.redis.connection.stream.ObjectRecord;
 import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.data.redis.connection.stream.StreamRecords;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import navik.ai.util.VectorCodec;
+import navik.cache.ContentHash;
 import navik.crawler.dto.Recruitment;
+import navik.redis.repository.EmbeddingVectorRepository;
+import navik.redis.spool.StreamSpool;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RedisStreamProducer {
 
-	private final RedisTemplate<String, Object> redisTemplate;
+	private final RedisStreamBatchWriter redisStreamBatchWriter;
+	private final StreamSpool streamSpool;
 	private final ObjectMapper objectMapper;
+	private final EmbeddingVectorRepository embeddingVectorRepository;
 
-	public void produceRecruitment(String streamKey, Recruitment recruitment) {
+	private static final String JSON_ENCODING = "json";
+	private static final String INLINE_STORAGE = "inline";
+	private static final String REF_STORAGE = "ref";
+
+	@Value("${spring.data.redis.stream.max-length}")
+	private long maxLength;
+
+	/**
+	 * 임베딩 인코딩 방식 (json, float32, float16, int8)
+	 * json 외에는 VectorCodec 포맷을 base64로 변환하여 embeddingEncoded에 담습니다.
+	 * 참조 방식에서 json인 경우 float32로 저장합니다.
+	 */
+	@Value("${spring.data.redis.stream.embedding-encoding}")
+	private String embeddingEncoding;
+
+	/**
+	 * 임베딩 보관 방식 (inline, ref)
+	 * ref인 경우 벡터는 {streamKey}:vector:{ref} 키에 한 번만 저장하고, 레코드에는 embeddingRef만 담습니다.
+	 */
+	@Value("${spring.data.redis.stream.embedding-storage}")
+	private String embeddingStorage;
+
+	private boolean jsonEncoding;
+	private boolean inlineStorage;
+	private VectorCodec.Dtype embeddingDtype;
+
+	/**
+	 * 발행 응답을 기다리는 최대 시간, 초과하면 스풀에 저장합니다.
+	 */
+	@Value("${spring.data.redis.stream.spool.publish-timeout-ms}")
+	private long publishTimeoutMillis;
+
+	/**
+	 * 임베딩 인코딩, 보관 방식을 시작 시 한 번만 해석합니다.
+	 * 잘못된 값은 발행마다 실패하여 모두 스풀에 쌓이므로, 애플리케이션 시작을 중단합니다.
+	 */
+	@PostConstruct
+	void parseEmbeddingOptions() {
+		jsonEncoding = JSON_ENCODING.equalsIgnoreCase(embeddingEncoding.trim());
+		if (jsonEncoding) {
+			embeddingDtype = VectorCodec.Dtype.FLOAT32;
+		} else {
+			try {
+				embeddingDtype = VectorCodec.Dtype.valueOf(embeddingEncoding.trim().toUpperCase(Locale.ROOT));
+			} catch (IllegalArgumentException e) {
+				throw new IllegalStateException("지원하지 않는 embedding-encoding입니다: " + embeddingEncoding
+					+ " (json, float32, float16, int8)", e);
+			}
+		}
+
+		inlineStorage = INLINE_STORAGE.equalsIgnoreCase(embeddingStorage.trim());
+		if (!inlineStorage && !REF_STORAGE.equalsIgnoreCase(embeddingStorage.trim())) {
+			throw new IllegalStateException("지원하지 않는 embedding-storage입니다: " + embeddingStorage + " (inline, ref)");
+		}
+		log.info("[RedisStreamProducer] 임베딩 인코딩: {}, 보관 방식: {}", embeddingEncoding, embeddingStorage);
+	}
+
+	/**
+	 * 채용 공고를 스트림에 발행하고, 발행 성공 여부를 반환합니다.
+	 * 여러 스레드에서 동시에 발행한 레코드는 배치로 묶여 한 번의 파이프라인으로 전송됩니다.
+	 * Redis가 실패하거나 응답이 늦으면 로컬 스풀에 저장하며, 이후 재발행되므로 성공으로 처리합니다.
+	 */
+	public boolean produceRecruitment(String streamKey, Recruitment recruitment) {
+		// 객체를 JSON 문자열로 변환
+		String recruitmentJson;
 		try {
-			// 객체를 JSON 문자열로 변환
-			String recruitmentJson = objectMapper.writeValueAsString(recruitment);
-
-			// String 타입으로 레코드 생성
-			ObjectRecord<String, String> record = StreamRecords.newRecord()
-				.ofObject(recruitmentJson)
-				.withStreamKey(streamKey);
-
-			RecordId recordId = redisTemplate.opsForStream()
-				.add(record, RedisStreamCommands.XAddOptions.maxlen(200)); // 200건;
-			if (Objects.nonNull(recordId))
-				log.info("[RedisStreamProducer] 채용 공고 발행 성공 recordId = {}", recordId.getValue());
-			else
-				log.error("[RedisStreamProducer] 채용 공고 발행 실패");
+			recruitmentJson = objectMapper.writeValueAsString(encodeEmbeddings(streamKey, recruitment));
 		} catch (Exception e) {
-			log.error("[RedisStreamProducer] JSON 변환 실패");
+			log.error("[RedisStreamProducer] JSON 변환 실패: {}", e.getMessage());
+			return false;
+		}
+
+		// 스풀에 재발행 대기 중인 레코드가 있으면, 순서를 지키기 위해 스풀 뒤에 추가
+		if (streamSpool.hasPending()) {
+			return spool(streamKey, recruitmentJson);
+		}
+
+		// String 타입으로 레코드 생성
+		ObjectRecord<String, String> record = StreamRecords.newRecord()
+			.ofObject(recruitmentJson)
+			.withStreamKey(streamKey);
+
+		try {
+			RecordId recordId = redisStreamBatchWriter.add(record, RedisStreamCommands.XAddOptions.maxlen(maxLength))
+				.get(publishTimeoutMillis, TimeUnit.MILLISECONDS);
+			log.info("[RedisStreamProducer] 채용 공고 발행 성공 recordId = {}", recordId.getValue());
+			return true;
+		} catch (ExecutionException e) {
+			log.warn("[RedisStreamProducer] 채용 공고 발행 실패: {}", e.getCause().getMessage());
+		} catch (TimeoutException e) {
+			log.warn("[RedisStreamProducer] 채용 공고 발행 응답 시간 초과: {}ms", publishTimeoutMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return spool(streamKey, recruitmentJson);
+	}
+
+	private boolean spool(String streamKey, String recruitmentJson) {
+		if (streamSpool.append(streamKey, recruitmentJson)) {
+			log.warn("[RedisStreamProducer] 채용 공고를 스풀에 저장했습니다. Redis 복구 후 재발행됩니다.");
+			return true;
+		}
+		log.error("[RedisStreamProducer] 채용 공고 발행 및 스풀 저장 실패");
+		return false;
+	}
+
+	/**
+	 * 설정된 방식으로 KPI 임베딩을 인코딩합니다.
+	 * 참조 방식인 경우 벡터를 먼저 저장한 후, 레코드에는 해시만 남깁니다.
+	 */
+	private Recruitment encodeEmbeddings(String streamKey, Recruitment recruitment) {
+		boolean inline = inlineStorage;
+		if ((inline && jsonEncoding) || recruitment.getPositions() == null) {
+			return recruitment;
+		}
+		VectorCodec.Dtype dtype = embeddingDtype;
+
+		Map<String, byte[]> vectors = new LinkedHashMap<>();    // 해시 -> 벡터, 참조 방식에서만 사용
+		List<Recruitment.Position> positions = encodePositions(recruitment, dtype, inline, vectors);
+		if (!inline) {
+			try {
+				embeddingVectorRepository.saveAll(streamKey, vectors);
+			} catch (Exception e) {
+				// 벡터를 저장하지 못하면 참조가 깨지므로, 레코드에 직접 포함
+				log.warn("[RedisStreamProducer] 임베딩 벡터 저장 실패, 레코드에 포함합니다: {}", e.getMessage());
+				positions = encodePositions(recruitment, dtype, true, vectors);
+			}
+		}
+
+		return recruitment.toBuilder()
+			.positions(positions)
+			.build();
+	}
+
+	private List<Recruitment.Position> encodePositions(Recruitment recruitment, VectorCodec.Dtype dtype, boolean inline,
+		Map<String, byte[]> vectors) {
+		return recruitment.getPositions().stream()
+			.map(position -> position.toBuilder()
+				.kpis(position.getKpis().stream()
+					.map(kpi -> encodeKpi(kpi, dtype, inline, vectors))
+					.toList())
+				.build())
+			.toList();
+	}
+
+	private Recruitment.Position.KPI encodeKpi(Recruitment.Position.KPI kpi, VectorCodec.Dtype dtype, boolean inline,
+		Map<String, byte[]> vectors) {
+		if (kpi.getEmbedding() == null) {
+			return kpi;
+		}
+		byte[] packed = VectorCodec.pack(kpi.getEmbedding(), dtype);
+		if (inline) {
+			return kpi.toBuilder()
+				.embedding(null)
+				.embeddingEncoded(Base64.getEncoder().encodeToString(packed))
+				.build();
 		}
+		String ref = ContentHash.sha256Hex(packed).substring(0, 32);
+		vectors.put(ref, packed);
+		return kpi.toBuilder()
+			.embedding(null)
+			.embeddingRef(ref)
+			.build();
 	}
 }
@@ -1,11 +1,16 @@
 package navik.redis.config;
 
+import java.time.Duration;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -15,13 +20,19 @@ public class RedisConfig {
 	private String host;
 	@Value("${spring.data.redis.port}")
 	private int port;
+	@Value("${spring.data.redis.timeout}")
+	private Duration commandTimeout;
 
 	/**
 	 * Redis 연결을 위한 'Connection'을 생성합니다.
+	 * Redis가 응답하지 않을 때 호출 스레드가 무한히 대기하지 않도록 명령 타임아웃을 적용합니다.
 	 */
 	@Bean
 	public RedisConnectionFactory redisConnectionFactory() {
-		return new LettuceConnectionFactory(host, port);
+		LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+			.commandTimeout(commandTimeout)
+			.build();
+		return new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port), clientConfiguration);
 	}
 
 	/**
@@ -48,4 +59,21 @@ public class RedisConfig {
 
 		return redisTemplate;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 임베딩 벡터처럼 바이너리 값을 그대로 저장하기 위한 템플릿을 구성합니다.
+	 */
+	@Bean
+	public RedisTemplate<String, byte[]> binaryRedisTemplate() {
+		RedisTemplate<String, byte[]> redisTemplate = new RedisTemplate<>();
+		redisTemplate.setConnectionFactory(redisConnectionFactory());
+
+		// Key는 문자열, Value는 바이트 배열 그대로 저장합니다.
+		redisTemplate.setKeySerializer(new StringRedisSerializer());
+		redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+		redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+		redisTemplate.setHashValueSerializer(RedisSerializer.byteArray());
+
+		return redisTemplate;
+	}
+}
@@ -0,0 +1,151 @@
+package navik.redis.monitor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 스트림 컨슈머 그룹의 지연(lag)을 주기적으로 확인하여, 발행을 일시 정지하거나 재개합니다.
+ * 지연 = 아직 전달되지 않은 레코드 수 + 전달되었지만 처리 확인(ACK)되지 않았고 스트림에 남아있는 레코드 수
+ * 지연이 최대 길이(maxlen)에 가까워지면, 읽지 않은 레코드가 잘려나가기 전에 발행을 멈춥니다.
+ * 발행이 멈추면 파이프라인 큐가 차면서 크롤링도 함께 대기합니다.
+ * 컨슈머가 멈춘 경우 크롤링이 끝나지 않으므로, 최대 정지 시간이 지나면 지연과 관계없이 발행을 재개합니다.
+ */
+@Slf4j
+@Component
+public class StreamLagMonitor {
+
+	private static final Duration PAUSE_POLL_INTERVAL = Duration.ofMillis(500);
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final String streamKey;
+	private final long maxLength;
+	private final long pauseThreshold;
+	private final long resumeThreshold;
+	private final Duration maxPause;
+
+	private volatile boolean paused = false;
+	private volatile long pausedAtNanos = 0;
+	private volatile boolean pauseExpired = false;
+	private volatile long lag = 0;
+	private volatile String lastEvent = "없음";
+
+	public StreamLagMonitor(
+		RedisTemplate<String, Object> redisTemplate,
+		@Value("${spring.data.redis.stream.keys.crawl}") String streamKey,
+		@Value("${spring.data.redis.stream.max-length}") long maxLength,
+		@Value("${spring.data.redis.stream.lag.pause-ratio}") double pauseRatio,
+		@Value("${spring.data.redis.stream.lag.resume-ratio}") double resumeRatio,
+		@Value("${spring.data.redis.stream.lag.max-pause-ms}") long maxPauseMillis
+	) {
+		this.redisTemplate = redisTemplate;
+		this.streamKey = streamKey;
+		this.maxLength = maxLength;
+		this.pauseThreshold = (long)(maxLength * pauseRatio);
+		this.resumeThreshold = (long)(maxLength * resumeRatio);
+		this.maxPause = Duration.ofMillis(maxPauseMillis);
+	}
+
+	/**
+	 * 컨슈머 그룹 중 가장 뒤처진 그룹의 지연을 확인하고, 임계치에 따라 발행을 멈추거나 재개합니다.
+	 * 멈춘 후에는 재개 임계치 아래로 내려가야 다시 발행합니다.
+	 */
+	@Scheduled(fixedDelayString = "${spring.data.redis.stream.lag.check-interval-ms}")
+	public void checkLag() {
+		try {
+			lag = measureLag();
+		} catch (Exception exception) {
+			log.warn("[StreamLagMonitor] 컨슈머 지연 확인 실패: {}", exception.getMessage());
+			return;
+		}
+
+		if (!paused && lag >= pauseThreshold) {
+			pausedAtNanos = System.nanoTime();
+			pauseExpired = false;
+			paused = true;
+			lastEvent = "발행 일시 정지 (" + LocalDateTime.now() + ", 지연 " + lag + "/" + maxLength + ")";
+			log.warn("[StreamLagMonitor] {}", lastEvent);
+		} else if (paused && lag <= resumeThreshold) {
+			paused = false;
+			lastEvent = "발행 재개 (" + LocalDateTime.now() + ", 지연 " + lag + "/" + maxLength + ")";
+			log.info("[StreamLagMonitor] {}", lastEvent);
+		}
+	}
+
+	/**
+	 * 발행이 일시 정지된 경우, 재개되거나 최대 정지 시간이 지날 때까지 대기합니다.
+	 */
+	public void awaitResume() throws InterruptedException {
+		while (isPaused()) {
+			Thread.sleep(PAUSE_POLL_INTERVAL);
+		}
+	}
+
+	/**
+	 * 일시 정지 상태이며 최대 정지 시간이 지나지 않은 경우 true입니다.
+	 * 최대 정지 시간이 지나면 지연이 줄어들지 않아도 발행을 재개하며, 그 사실을 한 번 기록합니다.
+	 */
+	public boolean isPaused() {
+		if (!paused) {
+			return false;
+		}
+		if (System.nanoTime() - pausedAtNanos < maxPause.toNanos()) {
+			return true;
+		}
+		if (!pauseExpired) {
+			pauseExpired = true;
+			lastEvent = "최대 정지 시간 초과로 발행 재개 (" + LocalDateTime.now() + ", 지연 " + lag + "/" + maxLength + ")";
+			log.warn("[StreamLagMonitor] {} - 컨슈머가 멈췄거나 미확인 레코드가 정리되지 않았는지 확인이 필요합니다.", lastEvent);
+		}
+		return false;
+	}
+
+	public long getLag() {
+		return lag;
+	}
+
+	public String getLastEvent() {
+		return lastEvent;
+	}
+
+	/**
+	 * XINFO GROUPS로 그룹별 마지막 전달 위치를 조회하고, 미확인(pending) 레코드는 XPENDING으로 스트림에 남아있는 것만 셉니다.
+	 * maxlen으로 잘려나간 레코드는 PEL에 남아도 다시 읽을 수 없으므로 지연에서 제외합니다.
+	 * 컨슈머 그룹이 없는 경우 지연은 0으로 봅니다.
+	 */
+	private long measureLag() {
+		if (!Boolean.TRUE.equals(redisTemplate.hasKey(streamKey))) {
+			return 0;
+		}
+
+		List<MapRecord<String, Object, Object>> first = redisTemplate.opsForStream()
+			.range(streamKey, Range.unbounded(), Limit.limit().count(1));
+		if (first == null || first.isEmpty()) {
+			return 0;
+		}
+		String firstId = first.getFirst().getId().getValue();
+
+		long maxLag = 0;
+		for (StreamInfo.XInfoGroup group : redisTemplate.opsForStream().groups(streamKey)) {
+			long undelivered = redisTemplate.opsForStream()
+				.range(streamKey, Range.leftOpen(group.lastDeliveredId(), "+"), Limit.limit().count((int)maxLength))
+				.size();
+			long pending = group.pendingCount() == 0 ? 0 : redisTemplate.opsForStream()
+				.pending(streamKey, group.groupName(), Range.closed(firstId, "+"), maxLength)
+				.size();
+			maxLag = Math.max(maxLag, undelivered + pending);
+		}
+		return maxLag;
+	}
+}
@@ -0,0 +1,56 @@
+package navik.redis.repository;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 스트림 레코드 밖에 임베딩 벡터를 보관하는 저장소
+ * Key: {streamKey}:vector:{벡터 내용 해시 (KPI의 embeddingRef)}
+ * Value: VectorCodec 포맷 바이너리
+ * 벡터마다 키를 분리하여 각자 보관 기간이 지나면 만료되므로, 크롤링이 계속되어도 저장소가 무한히 커지지 않습니다.
+ */
+@Repository
+public class EmbeddingVectorRepository {
+
+	private static final String KEY_INFIX = ":vector:";
+
+	private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+	private final Duration ttl;
+
+	public EmbeddingVectorRepository(
+		RedisTemplate<String, byte[]> binaryRedisTemplate,
+		@Value("${spring.data.redis.stream.vector-ttl-days}") long ttlDays
+	) {
+		this.binaryRedisTemplate = binaryRedisTemplate;
+		this.ttl = Duration.ofDays(ttlDays);
+	}
+
+	/**
+	 * 벡터 저장, 같은 해시의 벡터는 내용이 같으므로 한 번만 보관됩니다.
+	 * 저장할 때마다 해당 벡터의 보관 기간만 연장되며, 파이프라이닝으로 한 번에 전송합니다.
+	 */
+	public void saveAll(String streamKey, Map<String, byte[]> vectors) {
+		if (vectors.isEmpty()) {
+			return;
+		}
+		binaryRedisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) {
+				RedisOperations<String, byte[]> vectorOperations = (RedisOperations<String, byte[]>)operations;
+				vectors.forEach((ref, vector) -> vectorOperations.opsForValue().set(keyOf(streamKey, ref), vector, ttl));
+				return null;
+			}
+		});
+	}
+
+	public static String keyOf(String streamKey, String ref) {
+		return streamKey + KEY_INFIX + ref;
+	}
+}
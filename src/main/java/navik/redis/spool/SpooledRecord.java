@@ -0,0 +1,9 @@
+package navik.redis.spool;
+
+/**
+ * 스풀에 저장된 스트림 레코드입니다.
+ *
+ * @param size 스풀 파일에서 차지하는 크기 (헤더 포함)
+ */
+public record SpooledRecord(String streamKey, String payload, int size) {
+}
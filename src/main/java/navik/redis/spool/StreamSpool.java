@@ -0,0 +1,239 @@
+package navik.redis.spool;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis에 발행하지 못한 스트림 레코드를 보관하는 로컬 스풀입니다.
+ * 고정 크기의 세그먼트 파일을 메모리 맵으로 열어 순서대로 이어 쓰고, 가득 차면 다음 세그먼트로 넘어갑니다.
+ *
+ * 레코드 구조: [길이(int32)][CRC32(int32)][스트림 키 + '\0' + 페이로드(UTF-8)]
+ * 길이를 마지막에 기록하므로, 쓰는 중이거나 깨진 레코드는 읽히지 않습니다.
+ * 재발행을 마친 위치는 checkpoint 파일에 기록되며, 다 읽은 세그먼트는 삭제됩니다.
+ */
+@Slf4j
+@Component
+public class StreamSpool {
+
+	private static final String SEGMENT_PREFIX = "segment-";
+	private static final String SEGMENT_SUFFIX = ".spool";
+	private static final String CHECKPOINT_FILE = "checkpoint";
+	private static final int HEADER_SIZE = 8;    // 길이(4) + CRC32(4)
+	private static final char KEY_SEPARATOR = '\0';
+
+	private final Path directory;
+	private final int segmentSize;
+
+	private MappedByteBuffer writeBuffer;          // 쓰기 중인 세그먼트, this로 동기화
+	private volatile Position writePosition;       // 다음 레코드를 쓸 위치
+	private volatile Position readPosition;        // 다음에 재발행할 위치 (checkpoint)
+
+	private long readBufferSegment = -1;            // 재발행 스레드에서만 사용
+	private MappedByteBuffer readBuffer;
+
+	public StreamSpool(
+		@Value("${spring.data.redis.stream.spool.dir}") String directory,
+		@Value("${spring.data.redis.stream.spool.segment-size-mb}") int segmentSizeMb
+	) throws IOException {
+		this.directory = Path.of(directory);
+		this.segmentSize = segmentSizeMb * 1024 * 1024;
+		Files.createDirectories(this.directory);
+
+		// 1. 마지막 세그먼트의 끝에서 이어 쓰기
+		List<Long> segments = listSegments();
+		long lastSegment = segments.isEmpty() ? 0 : segments.getLast();
+		this.writeBuffer = map(lastSegment, FileChannel.MapMode.READ_WRITE);
+		this.writePosition = new Position(lastSegment, scanEnd(writeBuffer));
+
+		// 2. checkpoint부터 재발행, 없거나 이미 삭제된 세그먼트를 가리키면 가장 오래된 세그먼트부터
+		long firstSegment = segments.isEmpty() ? 0 : segments.getFirst();
+		Position checkpoint = loadCheckpoint().orElse(new Position(firstSegment, 0));
+		this.readPosition = checkpoint.segment() < firstSegment ? new Position(firstSegment, 0) : checkpoint;
+
+		if (hasPending()) {
+			log.warn("[StreamSpool] 재발행 대기 중인 레코드가 있습니다: {} -> {}", readPosition, writePosition);
+		}
+	}
+
+	/**
+	 * 재발행 대기 중인 레코드가 있는지 확인합니다.
+	 */
+	public boolean hasPending() {
+		return !readPosition.equals(writePosition);
+	}
+
+	/**
+	 * 레코드를 스풀 끝에 추가하고, 디스크에 반영합니다.
+	 */
+	public synchronized boolean append(String streamKey, String payload) {
+		byte[] bytes = (streamKey + KEY_SEPARATOR + payload).getBytes(StandardCharsets.UTF_8);
+		int recordSize = HEADER_SIZE + bytes.length;
+		if (recordSize + Integer.BYTES > segmentSize) {
+			log.error("[StreamSpool] 세그먼트보다 큰 레코드는 저장할 수 없습니다: {} bytes", recordSize);
+			return false;
+		}
+
+		try {
+			// 세그먼트 끝에 종료 표시(길이 0)를 남길 공간이 없으면 다음 세그먼트로 교체
+			if (writePosition.offset() + recordSize + Integer.BYTES > segmentSize) {
+				long nextSegment = writePosition.segment() + 1;
+				writeBuffer.force();
+				writeBuffer = map(nextSegment, FileChannel.MapMode.READ_WRITE);
+				writePosition = new Position(nextSegment, 0);
+			}
+
+			int offset = writePosition.offset();
+			CRC32 crc = new CRC32();
+			crc.update(bytes);
+			writeBuffer.putInt(offset + Integer.BYTES, (int)crc.getValue());
+			writeBuffer.put(offset + HEADER_SIZE, bytes);
+			writeBuffer.putInt(offset, bytes.length);
+			writeBuffer.force(offset, recordSize);
+
+			writePosition = new Position(writePosition.segment(), offset + recordSize);
+			return true;
+		} catch (IOException | UncheckedIOException exception) {
+			log.error("[StreamSpool] 레코드 저장 실패: {}", exception.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * checkpoint부터 순서대로 레코드를 꺼내 sink로 전달합니다.
+	 * sink가 false를 반환하면 해당 레코드부터 다음 호출에서 다시 시도합니다.
+	 * 한 스레드에서만 호출해야 합니다.
+	 */
+	public int drain(Predicate<SpooledRecord> sink) throws IOException {
+		int drained = 0;
+		while (hasPending()) {
+			Position read = readPosition;
+			Optional<SpooledRecord> record = readRecord(readBufferOf(read.segment()), read.offset());
+
+			if (record.isEmpty()) {
+				if (read.segment() >= writePosition.segment()) {
+					return drained;    // 쓰기 중인 세그먼트의 끝
+				}
+				moveTo(new Position(read.segment() + 1, 0));
+				Files.deleteIfExists(segmentPath(read.segment()));
+				continue;
+			}
+
+			if (!sink.test(record.get())) {
+				return drained;
+			}
+			moveTo(new Position(read.segment(), read.offset() + record.get().size()));
+			drained++;
+		}
+		return drained;
+	}
+
+	private MappedByteBuffer readBufferOf(long segment) throws IOException {
+		if (readBufferSegment != segment) {
+			readBuffer = map(segment, FileChannel.MapMode.READ_ONLY);
+			readBufferSegment = segment;
+		}
+		return readBuffer;
+	}
+
+	/**
+	 * offset 위치의 레코드를 읽습니다. 레코드가 없거나 CRC가 맞지 않으면 빈 값을 반환합니다.
+	 */
+	private Optional<SpooledRecord> readRecord(MappedByteBuffer buffer, int offset) {
+		if (offset + HEADER_SIZE > buffer.capacity()) {
+			return Optional.empty();
+		}
+		int length = buffer.getInt(offset);
+		if (length <= 0 || offset + HEADER_SIZE + length > buffer.capacity()) {
+			return Optional.empty();
+		}
+
+		byte[] bytes = new byte[length];
+		buffer.get(offset + HEADER_SIZE, bytes);
+		CRC32 crc = new CRC32();
+		crc.update(bytes);
+		if ((int)crc.getValue() != buffer.getInt(offset + Integer.BYTES)) {
+			log.warn("[StreamSpool] CRC가 일치하지 않는 레코드입니다: offset {}", offset);
+			return Optional.empty();
+		}
+
+		String record = new String(bytes, StandardCharsets.UTF_8);
+		int separator = record.indexOf(KEY_SEPARATOR);
+		return Optional.of(new SpooledRecord(
+			record.substring(0, separator),
+			record.substring(separator + 1),
+			HEADER_SIZE + length));
+	}
+
+	/**
+	 * 세그먼트의 마지막 레코드 다음 위치를 찾습니다.
+	 */
+	private int scanEnd(MappedByteBuffer buffer) {
+		int offset = 0;
+		Optional<SpooledRecord> record;
+		while ((record = readRecord(buffer, offset)).isPresent()) {
+			offset += record.get().size();
+		}
+		return offset;
+	}
+
+	private MappedByteBuffer map(long segment, FileChannel.MapMode mode) throws IOException {
+		try (FileChannel channel = FileChannel.open(segmentPath(segment),
+			StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			return channel.map(mode, 0, segmentSize);
+		}
+	}
+
+	private Path segmentPath(long segment) {
+		return directory.resolve(SEGMENT_PREFIX + String.format("%020d", segment) + SEGMENT_SUFFIX);
+	}
+
+	private List<Long> listSegments() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.map(path -> path.getFileName().toString())
+				.filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+				.map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+				.sorted()
+				.toList();
+		}
+	}
+
+	/**
+	 * 재발행 위치를 옮기고 checkpoint 파일에 기록합니다.
+	 */
+	private void moveTo(Position position) throws IOException {
+		Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+		Files.writeString(temp, position.segment() + " " + position.offset());
+		Files.move(temp, directory.resolve(CHECKPOINT_FILE),
+			StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		readPosition = position;
+	}
+
+	private Optional<Position> loadCheckpoint() throws IOException {
+		Path checkpoint = directory.resolve(CHECKPOINT_FILE);
+		if (!Files.exists(checkpoint)) {
+			return Optional.empty();
+		}
+		String[] values = Files.readString(checkpoint).trim().split(" ");
+		return Optional.of(new Position(Long.parseLong(values[0]), Integer.parseInt(values[1])));
+	}
+
+	private record Position(long segment, int offset) {
+	}
+}
@@ -0,0 +1,83 @@
+package navik.redis.spool;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.ObjectRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import navik.redis.monitor.StreamLagMonitor;
+
+/**
+ * 스풀에 쌓인 레코드를 Redis가 복구되면 저장된 순서대로 스트림에 재발행합니다.
+ * 재발행에 실패하면 다음 주기에 같은 레코드부터 다시 시도하며, 컨슈머 지연으로 발행이 멈춘 동안에는 대기합니다.
+ */
+@Slf4j
+@Component
+public class StreamSpoolReplayer implements DisposableBean {
+
+	private final StreamSpool streamSpool;
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final StreamLagMonitor streamLagMonitor;
+	private final Duration interval;
+	private final long maxLength;
+	private final Thread replayer;
+
+	public StreamSpoolReplayer(
+		StreamSpool streamSpool,
+		RedisTemplate<String, Object> redisTemplate,
+		StreamLagMonitor streamLagMonitor,
+		@Value("${spring.data.redis.stream.spool.replay-interval-ms}") long intervalMillis,
+		@Value("${spring.data.redis.stream.max-length}") long maxLength
+	) {
+		this.streamSpool = streamSpool;
+		this.redisTemplate = redisTemplate;
+		this.streamLagMonitor = streamLagMonitor;
+		this.interval = Duration.ofMillis(intervalMillis);
+		this.maxLength = maxLength;
+		this.replayer = Thread.ofVirtual().name("stream-spool-replayer").start(this::replayLoop);
+	}
+
+	private void replayLoop() {
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				Thread.sleep(interval);
+				if (streamSpool.hasPending() && !streamLagMonitor.isPaused()) {
+					int replayed = streamSpool.drain(this::publish);
+					if (replayed > 0) {
+						log.info("[StreamSpoolReplayer] 스풀 레코드 {}건 재발행", replayed);
+					}
+				}
+			} catch (InterruptedException exception) {
+				Thread.currentThread().interrupt();
+			} catch (Exception exception) {
+				log.error("[StreamSpoolReplayer] 스풀 재발행 실패: {}", exception.getMessage());
+			}
+		}
+	}
+
+	private boolean publish(SpooledRecord spooledRecord) {
+		ObjectRecord<String, String> record = StreamRecords.newRecord()
+			.ofObject(spooledRecord.payload())
+			.withStreamKey(spooledRecord.streamKey());
+		try {
+			RecordId recordId = redisTemplate.opsForStream()
+				.add(record, RedisStreamCommands.XAddOptions.maxlen(maxLength));
+			return recordId != null;
+		} catch (Exception exception) {
+			log.warn("[StreamSpoolReplayer] Redis 발행 실패, 다음 주기에 재시도합니다: {}", exception.getMessage());
+			return false;
+		}
+	}
+
+	@Override
+	public void destroy() {
+		replayer.interrupt();
+	}
+}
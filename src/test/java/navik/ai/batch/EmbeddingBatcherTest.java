@@ -0,0 +1,83 @@
+package navik.ai.batch;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.assertj.core.api.InstanceOfAssertFactories.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.embedding.EmbeddingModel;
+
+import navik.io.config.IoConcurrencyProperties;
+import navik.io.executor.BlockingIoExecutor;
+
+class EmbeddingBatcherTest {
+
+	private static final Duration WAIT = Duration.ofSeconds(5);
+
+	private final EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+	private final BlockingIoExecutor blockingIoExecutor = new BlockingIoExecutor(new IoConcurrencyProperties(4, null));
+	private EmbeddingBatcher embeddingBatcher;
+
+	@AfterEach
+	void tearDown() {
+		if (embeddingBatcher != null) {
+			embeddingBatcher.destroy();
+		}
+		blockingIoExecutor.destroy();
+	}
+
+	@Test
+	void completesEachRequestWithItsVector() {
+		when(embeddingModel.embed(anyList())).thenAnswer(invocation -> invocation.<List<String>>getArgument(0).stream()
+			.map(text -> new float[] {text.length()})
+			.toList());
+		embeddingBatcher = batcher(3, 60_000);
+
+		CompletableFuture<float[]> first = embeddingBatcher.enqueue("a");
+		CompletableFuture<float[]> second = embeddingBatcher.enqueue("bb");
+		CompletableFuture<float[]> third = embeddingBatcher.enqueue("ccc");
+
+		assertThat(first).succeedsWithin(WAIT, FLOAT_ARRAY).containsExactly(1);
+		assertThat(second).succeedsWithin(WAIT, FLOAT_ARRAY).containsExactly(2);
+		assertThat(third).succeedsWithin(WAIT, FLOAT_ARRAY).containsExactly(3);
+		verify(embeddingModel, times(1)).embed(List.of("a", "bb", "ccc"));
+	}
+
+	@Test
+	void sizeMismatchFailsEveryRequest() {
+		when(embeddingModel.embed(anyList())).thenReturn(List.of(new float[] {1}));
+		embeddingBatcher = batcher(2, 60_000);
+
+		CompletableFuture<float[]> first = embeddingBatcher.enqueue("a");
+		CompletableFuture<float[]> second = embeddingBatcher.enqueue("b");
+
+		assertThat(first).failsWithin(WAIT).withThrowableThat().withCauseInstanceOf(IllegalStateException.class);
+		assertThat(second).failsWithin(WAIT).withThrowableThat().withCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void slowEmbeddingTimesOut() {
+		CountDownLatch never = new CountDownLatch(1);
+		when(embeddingModel.embed(anyList())).thenAnswer(invocation -> {
+			never.await();
+			return List.of();
+		});
+		embeddingBatcher = batcher(1, 100);
+
+		CompletableFuture<float[]> future = embeddingBatcher.enqueue("a");
+
+		assertThat(future).failsWithin(WAIT).withThrowableThat().withCauseInstanceOf(TimeoutException.class);
+	}
+
+	private EmbeddingBatcher batcher(int maxBatchSize, long timeoutMillis) {
+		return new EmbeddingBatcher(embeddingModel, blockingIoExecutor, maxBatchSize, 200, 2, timeoutMillis);
+	}
+}
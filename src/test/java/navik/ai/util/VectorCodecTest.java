@@ -0,0 +1,101 @@
+package navik.ai.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class VectorCodecTest {
+
+	private static final float[] VECTOR = {0.5f, -0.25f, 0.125f, -1.0f, 0.0f, 0.3333f};
+
+	@Test
+	void encodeAndDecodeRoundTrip() {
+		byte[] bytes = VectorCodec.encode(VECTOR);
+
+		assertThat(bytes).hasSize(VECTOR.length * Float.BYTES);
+		assertThat(VectorCodec.decode(bytes)).containsExactly(VECTOR);
+	}
+
+	@Test
+	void decodeRejectsInvalidLength() {
+		assertThatIllegalArgumentException().isThrownBy(() -> VectorCodec.decode(new byte[5]));
+	}
+
+	@Test
+	void float32PackRoundTripIsExact() {
+		assertThat(VectorCodec.unpack(VectorCodec.pack(VECTOR, VectorCodec.Dtype.FLOAT32))).containsExactly(VECTOR);
+	}
+
+	@Test
+	void float16PackRoundTripIsWithinHalfPrecision() {
+		float[] unpacked = VectorCodec.unpack(VectorCodec.pack(VECTOR, VectorCodec.Dtype.FLOAT16));
+
+		assertThat(unpacked).hasSize(VECTOR.length);
+		for (int i = 0; i < VECTOR.length; i++) {
+			assertThat(unpacked[i]).isCloseTo(VECTOR[i], within(1e-3f));
+		}
+	}
+
+	@Test
+	void int8PackRoundTripIsWithinOneStep() {
+		float step = 1.0f / 127;    // 절댓값 최댓값 1.0 기준 스케일
+
+		float[] unpacked = VectorCodec.unpack(VectorCodec.pack(VECTOR, VectorCodec.Dtype.INT8));
+
+		assertThat(unpacked).hasSize(VECTOR.length);
+		for (int i = 0; i < VECTOR.length; i++) {
+			assertThat(unpacked[i]).isCloseTo(VECTOR[i], within(step));
+		}
+		assertThat(unpacked[3]).isEqualTo(-1.0f, within(1e-6f));
+	}
+
+	@Test
+	void int8PackOfZeroVectorKeepsZeros() {
+		float[] zeros = new float[4];
+
+		assertThat(VectorCodec.unpack(VectorCodec.pack(zeros, VectorCodec.Dtype.INT8))).containsExactly(zeros);
+	}
+
+	@ParameterizedTest
+	@EnumSource(VectorCodec.Dtype.class)
+	void packWritesVersionedHeader(VectorCodec.Dtype dtype) {
+		byte[] packed = VectorCodec.pack(VECTOR, dtype);
+		ByteBuffer header = ByteBuffer.wrap(packed).order(ByteOrder.LITTLE_ENDIAN);
+
+		assertThat(header.get()).isEqualTo(VectorCodec.FORMAT_VERSION);
+		assertThat(VectorCodec.Dtype.of(header.get())).isEqualTo(dtype);
+		assertThat(header.getInt()).isEqualTo(VECTOR.length);
+		header.getFloat();    // 스케일
+		assertThat(header.remaining()).isEqualTo(packed.length - 10);
+	}
+
+	@Test
+	void unpackRejectsUnknownVersion() {
+		byte[] packed = VectorCodec.pack(VECTOR, VectorCodec.Dtype.FLOAT32);
+		packed[0] = (byte)(VectorCodec.FORMAT_VERSION + 1);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> VectorCodec.unpack(packed));
+	}
+
+	@Test
+	void unpackRejectsUnknownDtype() {
+		byte[] packed = VectorCodec.pack(VECTOR, VectorCodec.Dtype.FLOAT32);
+		packed[1] = 9;
+
+		assertThatIllegalArgumentException().isThrownBy(() -> VectorCodec.unpack(packed));
+	}
+
+	@Test
+	void unpackRejectsTruncatedBody() {
+		byte[] packed = VectorCodec.pack(VECTOR, VectorCodec.Dtype.FLOAT16);
+		byte[] truncated = new byte[packed.length - 1];
+		System.arraycopy(packed, 0, truncated, 0, truncated.length);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> VectorCodec.unpack(truncated));
+	}
+}
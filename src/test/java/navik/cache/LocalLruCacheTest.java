@@ -0,0 +1,95 @@
+package navik.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class LocalLruCacheTest {
+
+	private final AtomicLong now = new AtomicLong();
+
+	@Test
+	void evictsLeastRecentlyUsedEntryWhenFull() {
+		LocalLruCache<String, Integer> cache = new LocalLruCache<>(2, null);
+		cache.put("a", 1);
+		cache.put("b", 2);
+		cache.get("a");    // a를 최근 사용으로 갱신
+
+		cache.put("c", 3);
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get("b")).isNull();
+		assertThat(cache.get("a")).isEqualTo(1);
+		assertThat(cache.get("c")).isEqualTo(3);
+	}
+
+	@Test
+	void expiredEntryIsNotReturnedAndIsRemoved() {
+		LocalLruCache<String, Integer> cache = new LocalLruCache<>(10, Duration.ofMillis(20), now::get);
+		cache.put("a", 1);
+
+		advance(Duration.ofMillis(19));
+		assertThat(cache.get("a")).isEqualTo(1);
+
+		advance(Duration.ofMillis(1));
+
+		assertThat(cache.get("a")).isNull();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void entriesDoNotExpireWithoutTtl() {
+		LocalLruCache<String, Integer> cache = new LocalLruCache<>(10, Duration.ZERO, now::get);
+		cache.put("a", 1);
+
+		advance(Duration.ofDays(365));
+
+		assertThat(cache.get("a")).isEqualTo(1);
+	}
+
+	@Test
+	void putRefreshesExpiration() {
+		LocalLruCache<String, Integer> cache = new LocalLruCache<>(10, Duration.ofMillis(200), now::get);
+		cache.put("a", 1);
+		advance(Duration.ofMillis(120));
+
+		cache.put("a", 2);
+		advance(Duration.ofMillis(120));
+
+		assertThat(cache.get("a")).isEqualTo(2);
+	}
+
+	@Test
+	void expiresAcrossNanoTimeOverflow() {
+		now.set(Long.MAX_VALUE - Duration.ofMillis(10).toNanos());
+		LocalLruCache<String, Integer> cache = new LocalLruCache<>(10, Duration.ofMillis(20), now::get);
+		cache.put("a", 1);
+
+		advance(Duration.ofMillis(15));
+		assertThat(cache.get("a")).isEqualTo(1);
+
+		advance(Duration.ofMillis(5));
+		assertThat(cache.get("a")).isNull();
+	}
+
+	@Test
+	void countsHitsAndMisses() {
+		LocalLruCache<String, Integer> cache = new LocalLruCache<>(10, null);
+		cache.put("a", 1);
+
+		cache.get("a");
+		cache.get("b");
+		cache.remove("a");
+		cache.get("a");
+
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.getMissCount()).isEqualTo(2);
+	}
+
+	private void advance(Duration duration) {
+		now.addAndGet(duration.toNanos());
+	}
+}
@@ -0,0 +1,57 @@
+package navik.crawler.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.Test;
+
+class CrawlerDataExtractorTest {
+
+	private final CrawlerDataExtractor crawlerDataExtractor = new CrawlerDataExtractor(null, null, null, null, null);
+
+	@Test
+	void extractOutlineKeepsLineBreaks() {
+		Document document = Jsoup.parse("""
+			<div data-sentry-element="Flex" data-sentry-source-file="index.tsx"
+				class="Flex_display_flex__i0l0hl2 Flex_gap_space28__i0l0hl2a Flex_direction_column__i0l0hl4">
+				<h3>모집 요강</h3>
+				<ul>
+					<li>Java&nbsp;개발   경력 3년 이상</li>
+					<li>Spring <b>Boot</b> 사용 경험</li>
+				</ul>
+				<p>우대 사항<br>대용량 트래픽 경험</p>
+				<table>
+					<tr><th>직급</th><td>사원</td></tr>
+					<tr><th>근무지</th><td>서울</td></tr>
+				</table>
+			</div>
+			""");
+
+		assertThat(crawlerDataExtractor.extractOutline(document)).isEqualTo("""
+			모집 요강
+			Java 개발 경력 3년 이상
+			Spring Boot 사용 경험
+			우대 사항
+			대용량 트래픽 경험
+			직급 사원
+			근무지 서울""");
+	}
+
+	@Test
+	void extractQualificationKeepsValueLineBreaks() {
+		Document document = Jsoup.parse("""
+			<div data-sentry-component="Qualification">
+				<div data-sentry-component="QualificationItem">
+					<span style="min-width:80px">경력</span><span>신입<br>3년 이상 우대</span>
+				</div>
+				<div data-sentry-component="QualificationItem">
+					<span style="min-width:80px">학력</span><span>대졸 이상</span>
+				</div>
+			</div>
+			""");
+
+		assertThat(crawlerDataExtractor.extractQualification(document))
+			.isEqualTo("경력: 신입\n3년 이상 우대\n학력: 대졸 이상\n");
+	}
+}
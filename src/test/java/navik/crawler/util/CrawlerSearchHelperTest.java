@@ -0,0 +1,54 @@
+package navik.crawler.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.URI;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import navik.crawler.enums.JobCode;
+
+class CrawlerSearchHelperTest {
+
+	private final CrawlerSearchHelper crawlerSearchHelper = new CrawlerSearchHelper(null);
+
+	@Test
+	void buildListUrlAppliesFiltersAndPage() {
+		UriComponents url = UriComponentsBuilder
+			.fromUriString(crawlerSearchHelper.buildListUrl(JobCode.DEVELOPER, 3))
+			.build();
+
+		assertThat(url.getScheme()).isEqualTo("https");
+		assertThat(url.getHost()).isEqualTo("www.jobkorea.co.kr");
+		assertThat(url.getPath()).isEqualTo("/recruit/joblist");
+		assertThat(url.getQueryParams().toSingleValueMap()).containsOnly(
+			entry("menucode", "duty"),
+			entry("dutyCtgr", "10031"),
+			entry("duty", "1000231"),
+			entry("order", "2"),
+			entry("pagesize", "50"),
+			entry("page", "3"));
+		assertThat(url.getFragment()).isEqualTo("anchorGICnt_3");
+	}
+
+	@ParameterizedTest
+	@EnumSource(JobCode.class)
+	void buildListUrlIsValidUri(JobCode jobCode) {
+		URI uri = URI.create(crawlerSearchHelper.buildListUrl(jobCode, 1));
+
+		assertThat(uri.getQuery()).contains("dutyCtgr=" + jobCode.getJobCode(), "duty=" + jobCode.getDetailCode());
+		assertThat(uri.getFragment()).isEqualTo("anchorGICnt_1");
+	}
+
+	@Test
+	void applyPageAnchorReplacesExistingFragment() {
+		assertThat(crawlerSearchHelper.applyPageAnchor("https://www.jobkorea.co.kr/recruit/joblist#anchorGICnt_1", 4))
+			.isEqualTo("https://www.jobkorea.co.kr/recruit/joblist#anchorGICnt_4");
+		assertThat(crawlerSearchHelper.applyPageAnchor("https://www.jobkorea.co.kr/recruit/joblist", 2))
+			.isEqualTo("https://www.jobkorea.co.kr/recruit/joblist#anchorGICnt_2");
+	}
+}
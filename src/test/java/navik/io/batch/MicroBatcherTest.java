@@ -0,0 +1,234 @@
+package navik.io.batch;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class MicroBatcherTest {
+
+	private static final Duration WAIT = Duration.ofSeconds(5);
+
+	private final List<List<String>> sent = new CopyOnWriteArrayList<>();
+	private final List<CompletableFuture<List<String>>> responses = new CopyOnWriteArrayList<>();
+	private MicroBatcher<String, String> batcher;
+
+	@AfterEach
+	void tearDown() {
+		responses.forEach(response -> response.complete(List.of()));
+		if (batcher != null) {
+			batcher.shutdown(false);
+		}
+	}
+
+	@Test
+	void completesEachRequestWithResultAtSamePosition() {
+		batcher = batcher(3, WAIT, 1, upperCase());
+
+		CompletableFuture<String> first = batcher.enqueue("a");
+		CompletableFuture<String> second = batcher.enqueue("b");
+		CompletableFuture<String> third = batcher.enqueue("c");
+
+		assertThat(first).succeedsWithin(WAIT).isEqualTo("A");
+		assertThat(second).succeedsWithin(WAIT).isEqualTo("B");
+		assertThat(third).succeedsWithin(WAIT).isEqualTo("C");
+		assertThat(sent).containsExactly(List.of("a", "b", "c"));
+		assertThat(batcher.getFillRatio()).isEqualTo(1.0);
+	}
+
+	@Test
+	void sendsPartialBatchAfterMaxWait() {
+		batcher = batcher(10, Duration.ofMillis(20), 1, upperCase());
+
+		CompletableFuture<String> first = batcher.enqueue("a");
+		CompletableFuture<String> second = batcher.enqueue("b");
+
+		assertThat(first).succeedsWithin(WAIT).isEqualTo("A");
+		assertThat(second).succeedsWithin(WAIT).isEqualTo("B");
+		assertThat(sent).flatMap(Function.identity()).containsExactly("a", "b");
+	}
+
+	@Test
+	void missingResultFailsOnlyItsRequest() {
+		batcher = batcher(3, WAIT, 1, items -> CompletableFuture.completedFuture(Arrays.asList("A", null)));
+
+		CompletableFuture<String> first = batcher.enqueue("a");
+		CompletableFuture<String> second = batcher.enqueue("b");
+		CompletableFuture<String> third = batcher.enqueue("c");
+
+		assertThat(first).succeedsWithin(WAIT).isEqualTo("A");
+		assertThat(second).failsWithin(WAIT).withThrowableThat().withCauseInstanceOf(IllegalStateException.class);
+		assertThat(third).failsWithin(WAIT).withThrowableThat().withCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void failedSendFailsEveryRequest() {
+		batcher = batcher(2, WAIT, 1,
+			items -> CompletableFuture.failedFuture(new IllegalArgumentException("send failed")));
+
+		CompletableFuture<String> first = batcher.enqueue("a");
+		CompletableFuture<String> second = batcher.enqueue("b");
+
+		assertThat(first).failsWithin(WAIT).withThrowableThat().withCauseInstanceOf(IllegalArgumentException.class);
+		assertThat(second).failsWithin(WAIT).withThrowableThat().withCauseInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void throwingSenderFailsItsBatchAndKeepsDispatching() {
+		List<Boolean> fail = new CopyOnWriteArrayList<>(List.of(true));
+		batcher = batcher(1, Duration.ZERO, 1, items -> {
+			if (fail.remove(Boolean.TRUE)) {
+				throw new IllegalArgumentException("send failed");
+			}
+			return upperCase().apply(items);
+		});
+
+		CompletableFuture<String> first = batcher.enqueue("a");
+		CompletableFuture<String> second = batcher.enqueue("b");
+
+		assertThat(first).failsWithin(WAIT).withThrowableThat().withCauseInstanceOf(IllegalArgumentException.class);
+		assertThat(second).succeedsWithin(WAIT).isEqualTo("B");
+	}
+
+	@Test
+	void limitsBatchesInFlight() throws InterruptedException {
+		batcher = batcher(1, Duration.ZERO, 1, deferred());
+
+		CompletableFuture<String> first = batcher.enqueue("a");
+		CompletableFuture<String> second = batcher.enqueue("b");
+		awaitDeferred(1);
+		Thread.sleep(100);
+		assertThat(sent).containsExactly(List.of("a"));
+
+		responses.getFirst().complete(List.of("A"));
+		awaitDeferred(2);
+		responses.get(1).complete(List.of("B"));
+
+		assertThat(first).succeedsWithin(WAIT).isEqualTo("A");
+		assertThat(second).succeedsWithin(WAIT).isEqualTo("B");
+	}
+
+	@Test
+	void skipsRequestsCompletedBeforeSending() throws InterruptedException {
+		batcher = batcher(1, Duration.ZERO, 1, deferred());
+
+		batcher.enqueue("a");
+		awaitDeferred(1);
+		batcher.enqueue("b").cancel(false);
+		CompletableFuture<String> third = batcher.enqueue("c");
+		responses.getFirst().complete(List.of("A"));
+		awaitDeferred(2);
+		responses.get(1).complete(List.of("C"));
+
+		assertThat(third).succeedsWithin(WAIT).isEqualTo("C");
+		assertThat(sent).containsExactly(List.of("a"), List.of("c"));
+	}
+
+	@Test
+	void shutdownFailsRequestsNotSent() throws InterruptedException {
+		batcher = batcher(1, Duration.ZERO, 1, deferred());
+		CompletableFuture<String> first = batcher.enqueue("a");
+		awaitDeferred(1);
+		CompletableFuture<String> second = batcher.enqueue("b");
+		CompletableFuture<String> third = batcher.enqueue("c");
+
+		batcher.shutdown(false);
+
+		assertThat(second).failsWithin(WAIT).withThrowableThat().withCauseInstanceOf(IllegalStateException.class);
+		assertThat(third).failsWithin(WAIT).withThrowableThat().withCauseInstanceOf(IllegalStateException.class);
+		assertThat(sent).hasSize(1);
+		responses.getFirst().complete(List.of("A"));
+		assertThat(first).succeedsWithin(WAIT).isEqualTo("A");
+	}
+
+	@Test
+	void shutdownWithFlushSendsRequestsNotSent() throws InterruptedException {
+		List<Boolean> defer = new CopyOnWriteArrayList<>(List.of(true));
+		batcher = batcher(2, Duration.ZERO, 1,
+			items -> defer.remove(Boolean.TRUE) ? deferred().apply(items) : upperCase().apply(items));
+		CompletableFuture<String> first = batcher.enqueue("a");
+		awaitDeferred(1);
+		List<CompletableFuture<String>> remaining = new ArrayList<>();
+		for (String item : List.of("b", "c", "d")) {
+			remaining.add(batcher.enqueue(item));
+		}
+
+		batcher.shutdown(true);
+
+		assertThat(remaining).allSatisfy(future -> assertThat(future).isCompleted());
+		assertThat(remaining).extracting(CompletableFuture::join).containsExactly("B", "C", "D");
+		assertThat(sent).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(2));
+		responses.getFirst().complete(List.of("A"));
+		assertThat(first).succeedsWithin(WAIT).isEqualTo("A");
+	}
+
+	@Test
+	void shutdownWaitsForSendInProgressWithoutInterrupting() throws InterruptedException {
+		CountDownLatch sending = new CountDownLatch(1);
+		batcher = batcher(1, Duration.ZERO, 1, items -> {
+			sending.countDown();
+			try {
+				Thread.sleep(200);
+			} catch (InterruptedException exception) {
+				return CompletableFuture.failedFuture(exception);
+			}
+			return upperCase().apply(items);
+		});
+		CompletableFuture<String> future = batcher.enqueue("a");
+		assertThat(sending.await(WAIT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+
+		batcher.shutdown(true);
+
+		assertThat(future).isCompletedWithValue("A");
+	}
+
+	@Test
+	void enqueueAfterShutdownFailsImmediately() {
+		batcher = batcher(2, WAIT, 1, upperCase());
+		batcher.shutdown(false);
+
+		assertThat(batcher.enqueue("a")).isCompletedExceptionally();
+		assertThat(sent).isEmpty();
+	}
+
+	private MicroBatcher<String, String> batcher(int maxBatchSize, Duration maxWait, int maxInFlight,
+		Function<List<String>, CompletableFuture<List<String>>> sender) {
+		return new MicroBatcher<>("test-batcher", maxBatchSize, maxWait, maxInFlight, items -> {
+			sent.add(items);
+			return sender.apply(items);
+		});
+	}
+
+	private Function<List<String>, CompletableFuture<List<String>>> upperCase() {
+		return items -> CompletableFuture.completedFuture(items.stream().map(String::toUpperCase).toList());
+	}
+
+	/**
+	 * 테스트에서 직접 완료할 때까지 전송 중으로 남는 sender
+	 */
+	private Function<List<String>, CompletableFuture<List<String>>> deferred() {
+		return items -> {
+			CompletableFuture<List<String>> response = new CompletableFuture<>();
+			responses.add(response);
+			return response;
+		};
+	}
+
+	private void awaitDeferred(int count) throws InterruptedException {
+		long deadline = System.nanoTime() + WAIT.toNanos();
+		while (responses.size() < count && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(responses).hasSizeGreaterThanOrEqualTo(count);
+	}
+}
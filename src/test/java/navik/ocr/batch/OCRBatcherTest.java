@@ -0,0 +1,113 @@
+package navik.ocr.batch;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import navik.io.config.IoConcurrencyProperties;
+import navik.io.executor.BlockingIoExecutor;
+import navik.ocr.dto.NaverOCRRequestDTO;
+import navik.ocr.dto.NaverOCRResponseDTO;
+import reactor.core.publisher.Mono;
+
+class OCRBatcherTest {
+
+	private static final Duration WAIT = Duration.ofSeconds(5);
+
+	private final BlockingIoExecutor blockingIoExecutor = new BlockingIoExecutor(new IoConcurrencyProperties(4, null));
+	private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+	private final AtomicInteger exchanges = new AtomicInteger();
+	private OCRBatcher ocrBatcher;
+
+	@AfterEach
+	void tearDown() {
+		if (ocrBatcher != null) {
+			ocrBatcher.destroy();
+		}
+		callers.shutdownNow();
+		blockingIoExecutor.destroy();
+	}
+
+	@Test
+	void missingImageFailsOnlyItsRequest() {
+		ocrBatcher = batcher(respond(HttpStatus.OK, """
+			{"images": [{"name": "navik-image-1", "inferResult": "SUCCESS", "fields": []}]}
+			"""), 2);
+
+		List<CompletableFuture<NaverOCRResponseDTO.Image>> futures = List.of(requestAsync(), requestAsync());
+
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).exceptionally(exception -> null).join();
+		assertThat(futures).filteredOn(future -> !future.isCompletedExceptionally())
+			.singleElement()
+			.satisfies(future -> assertThat(future.join().getInferResult()).isEqualTo("SUCCESS"));
+		assertThat(futures).filteredOn(CompletableFuture::isCompletedExceptionally)
+			.singleElement()
+			.satisfies(future -> assertThat(future).failsWithin(WAIT)
+				.withThrowableThat()
+				.withCauseInstanceOf(IllegalStateException.class));
+		assertThat(exchanges).hasValue(1);
+	}
+
+	@Test
+	void emptyResponseFailsEveryRequest() {
+		ocrBatcher = batcher(respond(HttpStatus.OK, "{}"), 2);
+
+		List<CompletableFuture<NaverOCRResponseDTO.Image>> futures = List.of(requestAsync(), requestAsync());
+
+		assertThat(futures).allSatisfy(future -> assertThat(future).failsWithin(WAIT)
+			.withThrowableThat()
+			.withCauseInstanceOf(IllegalStateException.class));
+	}
+
+	@Test
+	void singleRequestUsesResultWithoutName() {
+		ocrBatcher = batcher(respond(HttpStatus.OK, """
+			{"images": [{"inferResult": "SUCCESS", "fields": []}]}
+			"""), 1);
+
+		NaverOCRResponseDTO.Image result = ocrBatcher.request(image());
+
+		assertThat(result.getInferResult()).isEqualTo("SUCCESS");
+	}
+
+	private OCRBatcher batcher(WebClient webClient, int maxBatchSize) {
+		return new OCRBatcher(webClient, blockingIoExecutor, "https://ocr.test/general", "secret",
+			maxBatchSize, WAIT.toMillis(), 2, WAIT.toMillis());
+	}
+
+	private WebClient respond(HttpStatus status, String body) {
+		return WebClient.builder()
+			.exchangeFunction(request -> {
+				exchanges.incrementAndGet();
+				return Mono.just(ClientResponse.create(status)
+					.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+					.body(body)
+					.build());
+			})
+			.build();
+	}
+
+	private CompletableFuture<NaverOCRResponseDTO.Image> requestAsync() {
+		return CompletableFuture.supplyAsync(() -> ocrBatcher.request(image()), callers);
+	}
+
+	private NaverOCRRequestDTO.Image image() {
+		return NaverOCRRequestDTO.Image.builder()
+			.format("png")
+			.url("https://image.test/recruitment.png")
+			.build();
+	}
+}
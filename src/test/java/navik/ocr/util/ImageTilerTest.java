@@ -0,0 +1,149 @@
+package navik.ocr.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import navik.ocr.constant.NaverOCRConstant;
+import navik.ocr.dto.ImageMetadataDTO;
+import navik.ocr.dto.ImageTileDTO;
+import navik.ocr.dto.NaverOCRResponseDTO;
+
+class ImageTilerTest {
+
+	private final ImageTiler imageTiler = new ImageTiler();
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@ParameterizedTest
+	@ValueSource(ints = {1961, 3800, 5000, 20000})
+	void bandsCoverHeightWithContiguousKeepRanges(int height) {
+		List<ImageTiler.Band> bands = imageTiler.bands(height);
+
+		assertThat(bands).hasSizeGreaterThan(1);
+		assertThat(bands).allSatisfy(band -> {
+			assertThat(band.height()).isLessThanOrEqualTo(NaverOCRConstant.MAX_PIXEL);
+			assertThat(band.keepFromY()).isLessThan(band.keepToY());
+		});
+		assertThat(bands.getFirst().top()).isZero();
+		assertThat(bands.getFirst().keepFromY()).isZero();
+		for (int i = 1; i < bands.size(); i++) {
+			ImageTiler.Band previous = bands.get(i - 1);
+			ImageTiler.Band current = bands.get(i);
+			assertThat(current.top()).isLessThan(previous.top() + previous.height());
+			assertThat(current.top() + current.keepFromY()).isEqualTo(previous.top() + previous.keepToY());
+		}
+		ImageTiler.Band last = bands.getLast();
+		assertThat(last.top() + last.height()).isEqualTo(height);
+		assertThat(last.keepToY()).isEqualTo(last.height());
+	}
+
+	@Test
+	void splitTallImageIntoOverlappingTiles() throws IOException {
+		List<ImageTileDTO> tiles = imageTiler.split(png(500, 5000), metadata(500, 5000));
+
+		assertThat(tiles).hasSize(imageTiler.bands(5000).size());
+		int keptHeight = 0;
+		for (ImageTileDTO tile : tiles) {
+			BufferedImage image = ImageIO.read(new ByteArrayInputStream(tile.getBytes()));
+			assertThat(tile.getFormat()).isEqualTo("jpg");
+			assertThat(image.getWidth()).isEqualTo(500);
+			assertThat(image.getHeight()).isLessThanOrEqualTo(NaverOCRConstant.MAX_PIXEL);
+			keptHeight += tile.getKeepToY() - tile.getKeepFromY();
+		}
+		assertThat(keptHeight).isEqualTo(5000);
+	}
+
+	@Test
+	void splitWideImageBySubsampling() throws IOException {
+		List<ImageTileDTO> tiles = imageTiler.split(png(4000, 3000), metadata(4000, 3000));
+
+		assertThat(tiles).hasSize(1);
+		BufferedImage image = ImageIO.read(new ByteArrayInputStream(tiles.getFirst().getBytes()));
+		assertThat(image.getWidth()).isEqualTo(1334);
+		assertThat(image.getHeight()).isEqualTo(1000);
+	}
+
+	@Test
+	void splitKeepsSmallImageAsOriginal() throws IOException {
+		byte[] bytes = png(800, 600);
+
+		List<ImageTileDTO> tiles = imageTiler.split(bytes, metadata(800, 600));
+
+		assertThat(tiles).hasSize(1);
+		assertThat(tiles.getFirst().getBytes()).isSameAs(bytes);
+		assertThat(tiles.getFirst().getFormat()).isEqualTo("png");
+	}
+
+	@Test
+	void splitFallsBackToOriginalWhenUnreadable() {
+		byte[] bytes = {1, 2, 3, 4};
+
+		List<ImageTileDTO> tiles = imageTiler.split(bytes, metadata(3000, 9000));
+
+		assertThat(tiles).hasSize(1);
+		assertThat(tiles.getFirst().getBytes()).isSameAs(bytes);
+	}
+
+	@Test
+	void stitchDropsDuplicatesInOverlap() throws IOException {
+		List<ImageTileDTO> tiles = List.of(tile(0, 1900), tile(60, 1960));
+		List<List<NaverOCRResponseDTO.Field>> tileFields = List.of(
+			fields("""
+				[{"inferText": "첫번째", "boundingPoly": {"vertices": [{"y": 90}, {"y": 110}]}},
+				 {"inferText": "경계", "boundingPoly": {"vertices": [{"y": 1890}, {"y": 1930}]}}]
+				"""),
+			fields("""
+				[{"inferText": "경계", "boundingPoly": {"vertices": [{"y": 50}, {"y": 90}]}},
+				 {"inferText": "마지막", "boundingPoly": {"vertices": [{"y": 1000}, {"y": 1020}]}},
+				 {"inferText": "영역없음"}]
+				"""));
+
+		assertThat(imageTiler.stitch(tiles, tileFields)).isEqualTo("첫번째 경계 마지막 영역없음");
+	}
+
+	private ImageTileDTO tile(int keepFromY, int keepToY) {
+		return ImageTileDTO.builder().keepFromY(keepFromY).keepToY(keepToY).build();
+	}
+
+	private List<NaverOCRResponseDTO.Field> fields(String json) throws IOException {
+		return objectMapper.readValue(json, new TypeReference<>() {
+		});
+	}
+
+	private ImageMetadataDTO metadata(int width, int height) {
+		return ImageMetadataDTO.builder().extension("png").width(width).height(height).build();
+	}
+
+	private byte[] png(int width, int height) throws IOException {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = image.createGraphics();
+		try {
+			graphics.setColor(Color.WHITE);
+			graphics.fillRect(0, 0, width, height);
+			graphics.setColor(Color.BLACK);
+			for (int y = 0; y < height; y += 100) {
+				graphics.drawString("line " + y, 10, y + 50);
+			}
+		} finally {
+			graphics.dispose();
+		}
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", output);
+		return output.toByteArray();
+	}
+}
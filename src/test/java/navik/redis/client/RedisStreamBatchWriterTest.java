@@ -0,0 +1,126 @@
+package navik.redis.client;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.ObjectRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+class RedisStreamBatchWriterTest {
+
+	private static final Duration WAIT = Duration.ofSeconds(5);
+
+	@SuppressWarnings("unchecked")
+	private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+	private RedisStreamBatchWriter writer;
+
+	@AfterEach
+	void tearDown() {
+		if (writer != null) {
+			writer.destroy();
+		}
+	}
+
+	@Test
+	void completesEachRecordWithItsRecordId() {
+		when(redisTemplate.executePipelined(any(SessionCallback.class)))
+			.thenReturn(List.<Object>of(RecordId.of("1-0"), "2-0"));
+		writer = writer(2, WAIT);
+
+		CompletableFuture<RecordId> first = add("first");
+		CompletableFuture<RecordId> second = add("second");
+
+		assertThat(first).succeedsWithin(WAIT).isEqualTo(RecordId.of("1-0"));
+		assertThat(second).succeedsWithin(WAIT).isEqualTo(RecordId.of("2-0"));
+		verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+	}
+
+	@Test
+	void partialPipelineFailureFailsOnlyFailedRecords() {
+		IllegalStateException failure = new IllegalStateException("OOM command not allowed");
+		when(redisTemplate.executePipelined(any(SessionCallback.class)))
+			.thenThrow(new RedisPipelineException("pipeline failed", List.<Object>of(RecordId.of("1-0"), failure)));
+		writer = writer(2, WAIT);
+
+		CompletableFuture<RecordId> first = add("first");
+		CompletableFuture<RecordId> second = add("second");
+
+		assertThat(first).succeedsWithin(WAIT).isEqualTo(RecordId.of("1-0"));
+		assertThat(second).failsWithin(WAIT).withThrowableThat()
+			.withCauseInstanceOf(IllegalStateException.class)
+			.withMessageContaining("OOM command not allowed");
+	}
+
+	@Test
+	void missingPipelineResultFailsOnlyThatRecord() {
+		when(redisTemplate.executePipelined(any(SessionCallback.class)))
+			.thenReturn(List.<Object>of(RecordId.of("1-0")));
+		writer = writer(2, WAIT);
+
+		CompletableFuture<RecordId> first = add("first");
+		CompletableFuture<RecordId> second = add("second");
+
+		assertThat(first).succeedsWithin(WAIT).isEqualTo(RecordId.of("1-0"));
+		assertThat(second).failsWithin(WAIT).withThrowableThat().withCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void connectionFailureFailsEveryRecord() {
+		when(redisTemplate.executePipelined(any(SessionCallback.class)))
+			.thenThrow(new RedisConnectionFailureException("connection refused"));
+		writer = writer(2, WAIT);
+
+		CompletableFuture<RecordId> first = add("first");
+		CompletableFuture<RecordId> second = add("second");
+
+		assertThat(first).failsWithin(WAIT).withThrowableThat()
+			.withCauseInstanceOf(RedisConnectionFailureException.class);
+		assertThat(second).failsWithin(WAIT).withThrowableThat()
+			.withCauseInstanceOf(RedisConnectionFailureException.class);
+	}
+
+	@Test
+	void destroyFlushesRecordsNotYetSent() {
+		when(redisTemplate.executePipelined(any(SessionCallback.class)))
+			.thenAnswer(invocation -> List.<Object>of(RecordId.of("1-0"), RecordId.of("2-0")));
+		writer = writer(10, Duration.ofMinutes(1));
+
+		CompletableFuture<RecordId> first = add("first");
+		CompletableFuture<RecordId> second = add("second");
+		writer.destroy();
+
+		assertThat(first).isCompletedWithValue(RecordId.of("1-0"));
+		assertThat(second).isCompletedWithValue(RecordId.of("2-0"));
+	}
+
+	@Test
+	void addAfterDestroyFailsImmediately() {
+		writer = writer(2, WAIT);
+		writer.destroy();
+
+		assertThat(add("late")).isCompletedExceptionally();
+		verifyNoInteractions(redisTemplate);
+	}
+
+	private RedisStreamBatchWriter writer(int maxBatchSize, Duration maxWait) {
+		return new RedisStreamBatchWriter(redisTemplate, maxBatchSize, maxWait.toMillis());
+	}
+
+	private CompletableFuture<RecordId> add(String payload) {
+		ObjectRecord<String, String> record = StreamRecords.newRecord().in("crawl:stream").ofObject(payload);
+		return writer.add(record, RedisStreamCommands.XAddOptions.maxlen(1000));
+	}
+}
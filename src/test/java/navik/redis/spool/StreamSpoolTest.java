@@ -0,0 +1,141 @@
+package navik.redis.spool;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StreamSpoolTest {
+
+	private static final String STREAM_KEY = "crawl:stream";
+	private static final int HEADER_SIZE = 8;
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void drainsAppendedRecordsInOrder() throws IOException {
+		StreamSpool spool = open();
+		spool.append(STREAM_KEY, "{\"title\":\"백엔드 개발자\"}");
+		spool.append("other:stream", "second");
+
+		List<SpooledRecord> drained = drainAll(spool);
+
+		assertThat(drained).extracting(SpooledRecord::streamKey).containsExactly(STREAM_KEY, "other:stream");
+		assertThat(drained).extracting(SpooledRecord::payload).containsExactly("{\"title\":\"백엔드 개발자\"}", "second");
+		assertThat(spool.hasPending()).isFalse();
+	}
+
+	@Test
+	void rejectedRecordIsRetriedOnNextDrain() throws IOException {
+		StreamSpool spool = open();
+		spool.append(STREAM_KEY, "first");
+
+		assertThat(spool.drain(record -> false)).isZero();
+		assertThat(spool.hasPending()).isTrue();
+
+		assertThat(drainAll(spool)).extracting(SpooledRecord::payload).containsExactly("first");
+	}
+
+	@Test
+	void restartResumesFromCheckpoint() throws IOException {
+		StreamSpool spool = open();
+		spool.append(STREAM_KEY, "first");
+		spool.append(STREAM_KEY, "second");
+		spool.append(STREAM_KEY, "third");
+		AtomicInteger accepted = new AtomicInteger();
+		spool.drain(record -> accepted.incrementAndGet() <= 2);
+
+		StreamSpool restarted = open();
+
+		assertThat(restarted.hasPending()).isTrue();
+		assertThat(drainAll(restarted)).extracting(SpooledRecord::payload).containsExactly("third");
+	}
+
+	@Test
+	void restartAppendsAfterLastRecord() throws IOException {
+		open().append(STREAM_KEY, "before restart");
+
+		StreamSpool restarted = open();
+		restarted.append(STREAM_KEY, "after restart");
+
+		assertThat(drainAll(restarted)).extracting(SpooledRecord::payload)
+			.containsExactly("before restart", "after restart");
+	}
+
+	@Test
+	void corruptTailIsIgnoredAndOverwritten() throws IOException {
+		StreamSpool spool = open();
+		spool.append(STREAM_KEY, "intact");
+		spool.append(STREAM_KEY, "corrupted");
+		int firstRecordSize = HEADER_SIZE + recordBytes("intact").length;
+		corrupt(firstRecordSize + HEADER_SIZE + STREAM_KEY.length() + 2);
+
+		StreamSpool restarted = open();
+		restarted.append(STREAM_KEY, "appended");
+
+		assertThat(drainAll(restarted)).extracting(SpooledRecord::payload).containsExactly("intact", "appended");
+	}
+
+	@Test
+	void rollsOverSegmentsAndDeletesDrainedOnes() throws IOException {
+		StreamSpool spool = open();
+		String payload = "x".repeat(400 * 1024);    // 1MB 세그먼트에 2개씩 저장
+		for (int i = 0; i < 4; i++) {
+			assertThat(spool.append(STREAM_KEY, payload + i)).isTrue();
+		}
+		assertThat(segments()).hasSizeGreaterThan(1);
+
+		List<SpooledRecord> drained = drainAll(spool);
+
+		assertThat(drained).extracting(record -> record.payload().substring(payload.length()))
+			.containsExactly("0", "1", "2", "3");
+		assertThat(segments()).hasSize(1);
+	}
+
+	@Test
+	void rejectsRecordLargerThanSegment() throws IOException {
+		StreamSpool spool = open();
+
+		assertThat(spool.append(STREAM_KEY, "x".repeat(2 * 1024 * 1024))).isFalse();
+		assertThat(spool.hasPending()).isFalse();
+	}
+
+	private StreamSpool open() throws IOException {
+		return new StreamSpool(directory.toString(), 1);
+	}
+
+	private List<SpooledRecord> drainAll(StreamSpool spool) throws IOException {
+		List<SpooledRecord> drained = new ArrayList<>();
+		spool.drain(drained::add);
+		return drained;
+	}
+
+	private byte[] recordBytes(String payload) {
+		return (STREAM_KEY + '\0' + payload).getBytes(StandardCharsets.UTF_8);
+	}
+
+	private void corrupt(long position) throws IOException {
+		try (FileChannel channel = FileChannel.open(segments().getFirst(), StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.wrap(new byte[] {'#'}), position);
+		}
+	}
+
+	private List<Path> segments() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(path -> path.getFileName().toString().endsWith(".spool")).sorted().toList();
+		}
+	}
+}